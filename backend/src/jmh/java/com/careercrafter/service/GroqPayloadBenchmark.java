@@ -0,0 +1,100 @@
+package com.careercrafter.service;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Per-call cost of building a Groq request and reading its response.
+ * The "tree" benchmarks reproduce the previous String.format, Map.of and
+ * readTree path; the "streaming" ones use PromptTemplate and
+ * GroqPayloadCodec. Run with -prof gc and compare gc.alloc.rate.norm
+ * (bytes allocated per operation).
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class GroqPayloadBenchmark {
+
+    private static final String MODEL = "llama3-70b-8192";
+    private static final double TEMPERATURE = 0.7;
+
+    private static final String FORMAT = """
+            Enhance the following work experience into 3-5 powerful bullet points that demonstrate impact and achievements.
+            Use metrics where possible and start with strong action verbs. Return as JSON array only.
+
+            Job Title: %s
+            Company: %s
+            Current Description: %s
+            %s
+            """;
+    private static final PromptTemplate TEMPLATE = PromptTemplate.compile(FORMAT);
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final GroqPayloadCodec codec = new GroqPayloadCodec(TEMPERATURE);
+
+    private String description;
+    private String jobDescription;
+    private byte[] responseBody;
+
+    @Setup
+    public void setup() {
+        description = "Led a team of \"five\" engineers building payment services.\n".repeat(10);
+        jobDescription = "Target Job Description: Senior backend engineer, Java, Spring Boot, PostgreSQL, Kafka.\n"
+                .repeat(20);
+        String content = "[\\\"Reduced checkout latency by 40% by redesigning the payment pipeline\\\"]".repeat(5);
+        responseBody = ("{\"id\":\"chatcmpl-1\",\"object\":\"chat.completion\",\"created\":1700000000,"
+                + "\"model\":\"" + MODEL + "\",\"choices\":[{\"index\":0,\"message\":{\"role\":\"assistant\","
+                + "\"content\":\"" + content + "\"},\"logprobs\":null,\"finish_reason\":\"stop\"}],"
+                + "\"usage\":{\"prompt_tokens\":412,\"completion_tokens\":96,\"total_tokens\":508},"
+                + "\"system_fingerprint\":\"fp_1\",\"x_groq\":{\"id\":\"req_1\"}}")
+                .getBytes(StandardCharsets.UTF_8);
+    }
+
+    @Benchmark
+    public byte[] buildRequestTree() throws Exception {
+        String prompt = String.format(FORMAT, "Senior Engineer", "Acme", description, jobDescription);
+        Map<String, Object> requestBody = Map.of(
+                "model", MODEL,
+                "messages", List.of(
+                        Map.of("role", "system", "content", GroqPayloadCodec.SYSTEM_PROMPT),
+                        Map.of("role", "user", "content", prompt)),
+                "max_tokens", 800,
+                "temperature", TEMPERATURE);
+        return objectMapper.writeValueAsBytes(requestBody);
+    }
+
+    @Benchmark
+    public byte[] buildRequestStreaming() {
+        String prompt = TEMPLATE.render("Senior Engineer", "Acme", description, jobDescription);
+        return codec.writeChatRequest(MODEL, prompt, 800, false);
+    }
+
+    @Benchmark
+    public String parseResponseTree() throws Exception {
+        JsonNode jsonNode = objectMapper.readTree(new String(responseBody, StandardCharsets.UTF_8));
+        return jsonNode.get("choices").get(0).get("message").get("content").asText();
+    }
+
+    @Benchmark
+    public String parseResponseStreaming() throws Exception {
+        return GroqPayloadCodec.readCompletion(responseBody).content();
+    }
+}
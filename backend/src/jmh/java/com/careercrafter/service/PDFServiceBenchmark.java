@@ -0,0 +1,124 @@
+package com.careercrafter.service;
+
+import com.careercrafter.dto.PDFRequest;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Throughput of PDFService.generatePDF for small, medium and large resumes
+ * in every template. writePDF to a null stream isolates rendering from
+ * collecting the bytes. Run with -prof gc and compare gc.alloc.rate.norm
+ * (bytes allocated per rendered PDF); the gap between templates at the
+ * same size is the per-template render cost.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class PDFServiceBenchmark {
+
+    @Param({"small", "medium", "large"})
+    private String size;
+
+    @Param({"classic", "modern", "elegant"})
+    private String templateId;
+
+    private PDFService pdfService;
+    private PDFRequest request;
+
+    @Setup
+    public void setup() {
+        pdfService = new PDFService(new PDFRenderContext(), new PDFTemplateRegistry());
+        request = switch (size) {
+            case "small" -> resume(1, 2, 1, 5);
+            case "medium" -> resume(4, 4, 2, 15);
+            default -> resume(12, 8, 3, 40);
+        };
+        request.setTemplateId(templateId);
+    }
+
+    @Benchmark
+    public byte[] generatePDF() throws IOException {
+        return pdfService.generatePDF(request);
+    }
+
+    @Benchmark
+    public void writePDF() throws IOException {
+        pdfService.writePDF(request, OutputStream.nullOutputStream());
+    }
+
+    private static PDFRequest resume(int jobs, int bulletsPerJob, int degrees, int skills) {
+        List<PDFRequest.WorkExperienceDTO> workExperience = new ArrayList<>();
+        for (int i = 0; i < jobs; i++) {
+            List<String> achievements = new ArrayList<>();
+            for (int j = 0; j < bulletsPerJob; j++) {
+                achievements.add("Reduced checkout latency by " + (10 + j) + "% by redesigning the payment "
+                        + "pipeline and moving fraud checks off the request path");
+            }
+            workExperience.add(PDFRequest.WorkExperienceDTO.builder()
+                    .jobTitle("Senior Software Engineer")
+                    .company("Company " + i)
+                    .startMonth(1)
+                    .startYear(2015 + i)
+                    .endMonth(12)
+                    .endYear(2016 + i)
+                    .isPresent(i == 0)
+                    .description("Owned the backend services for payments and billing, working with product "
+                            + "and operations teams across three time zones.")
+                    .achievements(achievements)
+                    .build());
+        }
+
+        List<PDFRequest.EducationDTO> education = new ArrayList<>();
+        for (int i = 0; i < degrees; i++) {
+            education.add(PDFRequest.EducationDTO.builder()
+                    .degree("B.Sc.")
+                    .fieldOfStudy("Computer Science")
+                    .institution("University " + i)
+                    .startMonth(9)
+                    .startYear(2008 + i)
+                    .endMonth(6)
+                    .endYear(2012 + i)
+                    .gpa("3.8")
+                    .achievements(List.of("Dean's list", "Teaching assistant for algorithms"))
+                    .build());
+        }
+
+        List<PDFRequest.SkillsDTO> skillList = new ArrayList<>();
+        for (int i = 0; i < skills; i++) {
+            skillList.add(PDFRequest.SkillsDTO.builder().name("Skill " + i).level("Advanced").build());
+        }
+
+        return PDFRequest.builder()
+                .resumeId("benchmark")
+                .personalInfo(PDFRequest.PersonalInfoDTO.builder()
+                        .fullName("Jordan Example")
+                        .email("jordan@example.com")
+                        .phone("+1 555 0100")
+                        .location("Berlin, Germany")
+                        .summary("Backend engineer with ten years of experience building payment systems "
+                                + "in Java and Spring Boot.")
+                        .build())
+                .workExperience(workExperience)
+                .education(education)
+                .skills(skillList)
+                .build();
+    }
+}
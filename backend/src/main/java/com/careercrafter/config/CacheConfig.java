@@ -0,0 +1,87 @@
+package com.careercrafter.config;
+
+import com.careercrafter.service.AICacheStore;
+import com.github.benmanes.caffeine.cache.AsyncCache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.caffeine.CaffeineCacheManager;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+
+/**
+ * Cache configuration for the application
+ */
+@Configuration
+public class CacheConfig {
+
+    /**
+     * Caches with this prefix hold AI results and get a persistent second tier
+     */
+    private static final String AI_CACHE_PREFIX = "ai-";
+
+    @Value("${spring.cache.caffeine.spec}")
+    private String cacheSpec;
+
+    /**
+     * The expireAfterWrite of this spec is the hard TTL of AI cache entries
+     */
+    @Value("${ai.cache.spec:maximumSize=500,expireAfterWrite=3600s}")
+    private String aiCacheSpec;
+
+    @Value("${ai.cache.soft-ttl-seconds:600}")
+    private long softTtlSeconds;
+
+    @Value("${ai.cache.refresh-retry-seconds:30}")
+    private long refreshRetrySeconds;
+
+    @Value("${ai.cache.persistent:true}")
+    private boolean persistentAICache;
+
+    /**
+     * Caffeine cache manager in async mode so that @Cacheable methods can
+     * return CompletableFuture values without blocking on the cache.
+     * AI caches are wrapped in a TieredCache backed by the AI cache store,
+     * and in a StaleWhileRevalidateCache that serves entries past the soft
+     * TTL while they are refreshed.
+     */
+    @Bean
+    public CacheManager cacheManager(AICacheStore aiCacheStore, MeterRegistry meterRegistry) {
+        CaffeineCacheManager cacheManager = new CaffeineCacheManager() {
+            @Override
+            protected AsyncCache<Object, Object> createAsyncCaffeineCache(String name) {
+                if (name.startsWith(AI_CACHE_PREFIX)) {
+                    return Caffeine.from(aiCacheSpec).buildAsync();
+                }
+                return super.createAsyncCaffeineCache(name);
+            }
+
+            @Override
+            protected Cache adaptCaffeineCache(String name, AsyncCache<Object, Object> cache) {
+                Cache adapted = super.adaptCaffeineCache(name, cache);
+                if (!name.startsWith(AI_CACHE_PREFIX)) {
+                    return adapted;
+                }
+                // L2 entries past the hard TTL would outlive the L1 entries they back
+                Duration hardTtl = cache.synchronous().policy().expireAfterWrite()
+                        .map(expiration -> expiration.getExpiresAfter())
+                        .orElse(null);
+                TieredCache tiered = persistentAICache ? new TieredCache(adapted, aiCacheStore, hardTtl) : null;
+                StaleWhileRevalidateCache cacheWithRefresh = new StaleWhileRevalidateCache(
+                        tiered != null ? tiered : adapted, Caffeine.from(aiCacheSpec),
+                        Duration.ofSeconds(softTtlSeconds), Duration.ofSeconds(refreshRetrySeconds), meterRegistry);
+                if (tiered != null) {
+                    tiered.setPromotionListener(cacheWithRefresh::stampPromoted);
+                }
+                return cacheWithRefresh;
+            }
+        };
+        cacheManager.setCacheSpecification(cacheSpec);
+        cacheManager.setAsyncCacheMode(true);
+        return cacheManager;
+    }
+}
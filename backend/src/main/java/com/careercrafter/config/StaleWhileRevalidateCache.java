@@ -0,0 +1,184 @@
+package com.careercrafter.config;
+
+import com.careercrafter.service.AIPriority;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.cache.Cache;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+/**
+ * Soft-TTL/hard-TTL decorator for AI caches.
+ * The delegate expires entries at the hard TTL. Entries older than the
+ * soft TTL are still served right away, and the first read after the soft
+ * TTL starts one background refresh through the @Cacheable value loader.
+ * A failed refresh leaves the stale entry in place and is retried after a
+ * backoff, so users get a slightly old answer instead of waiting on a slow
+ * or failing Groq call. Refreshes run in the background AI lane, so they
+ * only use Groq capacity that interactive calls leave idle. Entries promoted
+ * from the persistent tier keep their original write time; entries whose
+ * write time is unknown count as stale.
+ */
+public class StaleWhileRevalidateCache implements Cache {
+
+    private static final Logger log = LoggerFactory.getLogger(StaleWhileRevalidateCache.class);
+
+    private final Cache delegate;
+    private final long softTtlMillis;
+    private final long retryBackoffMillis;
+    private final com.github.benmanes.caffeine.cache.Cache<Object, Long> writtenAt;
+    private final Map<Object, CompletableFuture<?>> refreshing = new ConcurrentHashMap<>();
+    private final Counter staleServed;
+    private final Counter refreshed;
+    private final Counter refreshFailed;
+
+    public StaleWhileRevalidateCache(Cache delegate, Caffeine<Object, Object> timestampBuilder,
+            Duration softTtl, Duration retryBackoff, MeterRegistry meterRegistry) {
+        this.delegate = delegate;
+        this.softTtlMillis = softTtl.toMillis();
+        this.retryBackoffMillis = retryBackoff.toMillis();
+        this.writtenAt = timestampBuilder.build();
+        this.staleServed = counter(meterRegistry, "served");
+        this.refreshed = counter(meterRegistry, "refreshed");
+        this.refreshFailed = counter(meterRegistry, "refresh-failed");
+    }
+
+    @Override
+    public String getName() {
+        return delegate.getName();
+    }
+
+    @Override
+    public Object getNativeCache() {
+        return delegate.getNativeCache();
+    }
+
+    @Override
+    public ValueWrapper get(Object key) {
+        return delegate.get(key);
+    }
+
+    @Override
+    public <T> T get(Object key, Class<T> type) {
+        return delegate.get(key, type);
+    }
+
+    @Override
+    public <T> T get(Object key, Callable<T> valueLoader) {
+        return delegate.get(key, () -> {
+            T loaded = valueLoader.call();
+            stamp(key, System.currentTimeMillis());
+            return loaded;
+        });
+    }
+
+    /**
+     * Completes with the cached value itself. Caffeine wraps hits in a
+     * ValueWrapper when null values are allowed, which direct lookups would
+     * otherwise mistake for a miss.
+     */
+    @Override
+    public CompletableFuture<?> retrieve(Object key) {
+        CompletableFuture<?> cached = delegate.retrieve(key);
+        return cached == null ? null
+                : cached.thenApply(value -> value instanceof ValueWrapper wrapper ? wrapper.get() : value);
+    }
+
+    @Override
+    public <T> CompletableFuture<T> retrieve(Object key, Supplier<CompletableFuture<T>> valueLoader) {
+        // One pass through the tiers; only a real load is stamped with the current time
+        CompletableFuture<T> value = delegate.retrieve(key, () -> valueLoader.get().thenApply(loaded -> {
+            stamp(key, System.currentTimeMillis());
+            return loaded;
+        }));
+        return value.thenApply(cached -> {
+            if (cached != null && isStale(key)) {
+                staleServed.increment();
+                refreshInBackground(key, valueLoader);
+            }
+            return cached;
+        });
+    }
+
+    @Override
+    public void put(Object key, Object value) {
+        delegate.put(key, value);
+        stamp(key, System.currentTimeMillis());
+    }
+
+    @Override
+    public void evict(Object key) {
+        delegate.evict(key);
+        writtenAt.invalidate(key);
+    }
+
+    @Override
+    public void clear() {
+        delegate.clear();
+        writtenAt.invalidateAll();
+    }
+
+    /**
+     * Record the original write time of an entry promoted from the persistent tier
+     */
+    public void stampPromoted(Object key, LocalDateTime createdAt) {
+        stamp(key, createdAt.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli());
+    }
+
+    /**
+     * Entries without a timestamp have an unknown age and count as stale
+     */
+    private boolean isStale(Object key) {
+        Long written = writtenAt.getIfPresent(key);
+        return written == null || System.currentTimeMillis() - written > softTtlMillis;
+    }
+
+    private <T> void refreshInBackground(Object key, Supplier<CompletableFuture<T>> valueLoader) {
+        CompletableFuture<Void> refresh = new CompletableFuture<>();
+        if (refreshing.putIfAbsent(key, refresh) != null) {
+            return;
+        }
+        CompletableFuture<T> loading;
+        try {
+            loading = AIPriority.background(valueLoader);
+        } catch (RuntimeException e) {
+            loading = CompletableFuture.failedFuture(e);
+        }
+        loading.whenComplete((value, error) -> {
+            if (error == null && value != null) {
+                put(key, value);
+                refreshed.increment();
+            } else {
+                // Keep serving the stale entry; try again once the backoff has passed
+                refreshFailed.increment();
+                stamp(key, System.currentTimeMillis() - softTtlMillis + retryBackoffMillis);
+                log.debug("Background refresh of {} entry failed: {}", getName(),
+                        error != null ? error.getMessage() : "no value");
+            }
+            refreshing.remove(key, refresh);
+            refresh.complete(null);
+        });
+    }
+
+    private void stamp(Object key, long millis) {
+        writtenAt.put(key, millis);
+    }
+
+    private Counter counter(MeterRegistry meterRegistry, String result) {
+        return Counter.builder("ai.cache.stale")
+                .tag("cache", delegate.getName())
+                .tag("result", result)
+                .description("Stale-while-revalidate activity on AI caches")
+                .register(meterRegistry);
+    }
+}
@@ -0,0 +1,162 @@
+package com.careercrafter.config;
+
+import com.careercrafter.service.AICacheStore;
+import com.careercrafter.service.AIPriority;
+import org.springframework.cache.Cache;
+import org.springframework.cache.support.SimpleValueWrapper;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.BiConsumer;
+import java.util.function.Supplier;
+
+/**
+ * Two-tier cache: an in-memory Caffeine cache (L1) backed by the persistent
+ * AI cache store (L2). L1 misses fall through to L2 and L2 hits are promoted
+ * back into L1; every put is written through to L2 in the background.
+ * L2 entries older than the maximum age, the hard TTL of L1, count as
+ * misses, so a promotion never serves an answer L1 would already have
+ * expired.
+ */
+public class TieredCache implements Cache {
+
+    private final Cache delegate;
+    private final AICacheStore store;
+    private final Duration maxAge;
+    private volatile BiConsumer<Object, LocalDateTime> promotionListener = (key, createdAt) -> { };
+
+    /**
+     * @param maxAge age after which L2 entries are ignored; null keeps them until the store expires them
+     */
+    public TieredCache(Cache delegate, AICacheStore store, Duration maxAge) {
+        this.delegate = delegate;
+        this.store = store;
+        this.maxAge = maxAge;
+    }
+
+    /**
+     * Called with the key and the original write time of every L2 hit promoted into L1
+     */
+    public void setPromotionListener(BiConsumer<Object, LocalDateTime> promotionListener) {
+        this.promotionListener = promotionListener;
+    }
+
+    @Override
+    public String getName() {
+        return delegate.getName();
+    }
+
+    @Override
+    public Object getNativeCache() {
+        return delegate.getNativeCache();
+    }
+
+    @Override
+    public ValueWrapper get(Object key) {
+        ValueWrapper wrapper = delegate.get(key);
+        if (wrapper != null) {
+            return wrapper;
+        }
+        AICacheStore.StoredValue stored = fresh(store.load(getName(), key));
+        if (stored == null) {
+            return null;
+        }
+        delegate.put(key, stored.value());
+        promotionListener.accept(key, stored.createdAt());
+        return new SimpleValueWrapper(stored.value());
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T get(Object key, Class<T> type) {
+        ValueWrapper wrapper = get(key);
+        Object value = wrapper != null ? wrapper.get() : null;
+        if (value != null && type != null && !type.isInstance(value)) {
+            throw new IllegalStateException("Cached value is not of required type [" + type.getName() + "]: " + value);
+        }
+        return (T) value;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T get(Object key, Callable<T> valueLoader) {
+        return delegate.get(key, () -> {
+            AICacheStore.StoredValue stored = fresh(store.load(getName(), key));
+            if (stored != null) {
+                promotionListener.accept(key, stored.createdAt());
+                return (T) stored.value();
+            }
+            T loaded = valueLoader.call();
+            store.storeAsync(getName(), key, loaded);
+            return loaded;
+        });
+    }
+
+    @Override
+    public CompletableFuture<?> retrieve(Object key) {
+        CompletableFuture<?> cached = delegate.retrieve(key);
+        if (cached != null) {
+            return cached;
+        }
+        // A null completion tells the caching infrastructure this was a late-determined miss
+        return loadFresh(key).thenApply(stored -> {
+            if (stored == null) {
+                return null;
+            }
+            delegate.put(key, stored.value());
+            promotionListener.accept(key, stored.createdAt());
+            return stored.value();
+        });
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> CompletableFuture<T> retrieve(Object key, Supplier<CompletableFuture<T>> valueLoader) {
+        // The loader may run on the store's thread, so it is given the caller's lane explicitly
+        AIPriority lane = AIPriority.current();
+        return delegate.retrieve(key, () -> loadFresh(key).thenCompose(stored -> {
+            if (stored != null) {
+                promotionListener.accept(key, stored.createdAt());
+                return CompletableFuture.completedFuture((T) stored.value());
+            }
+            return AIPriority.runIn(lane, valueLoader).thenApply(loaded -> {
+                store.storeAsync(getName(), key, loaded);
+                return loaded;
+            });
+        }));
+    }
+
+    @Override
+    public void put(Object key, Object value) {
+        delegate.put(key, value);
+        store.storeAsync(getName(), key, value);
+    }
+
+    @Override
+    public void evict(Object key) {
+        delegate.evict(key);
+        store.evictAsync(getName(), key);
+    }
+
+    @Override
+    public void clear() {
+        delegate.clear();
+        store.clear(getName());
+    }
+
+    private CompletableFuture<AICacheStore.StoredValue> loadFresh(Object key) {
+        return store.loadAsync(getName(), key).thenApply(this::fresh);
+    }
+
+    /**
+     * The stored value, or null when it is missing or older than the maximum age
+     */
+    private AICacheStore.StoredValue fresh(AICacheStore.StoredValue stored) {
+        if (stored == null || maxAge == null || stored.createdAt() == null) {
+            return stored;
+        }
+        return stored.createdAt().isBefore(LocalDateTime.now().minus(maxAge)) ? null : stored;
+    }
+}
@@ -2,16 +2,40 @@ package com.careercrafter.controller;
 
 import com.careercrafter.dto.AIRequest;
 import com.careercrafter.dto.AIResponse;
+import com.careercrafter.dto.BulkJobMatchRequest;
+import com.careercrafter.dto.BulkJobMatchResponse;
+import com.careercrafter.dto.GeneratedResume;
 import com.careercrafter.dto.JobMatchAnalysis;
+import com.careercrafter.dto.JobMatchResult;
+import com.careercrafter.dto.ResumeRankingRequest;
+import com.careercrafter.dto.WorkExperienceBatchResponse;
+import com.careercrafter.exception.ServiceUnavailableException;
+import com.careercrafter.security.JwtAuthenticationProvider;
 import com.careercrafter.service.AIService;
+import com.careercrafter.service.BulkJobMatchService;
+import com.careercrafter.service.ResumeGenerationService;
+import com.careercrafter.service.ResumeRankingService;
+import com.careercrafter.service.WorkExperienceBatchService;
 import jakarta.validation.Valid;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.http.codec.ServerSentEvent;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.function.Function;
 
 /**
  * Controller for AI-powered resume enhancement and job matching
+ *
+ * AI endpoints return CompletableFuture so the servlet thread is released
+ * while the Groq call is in flight.
  */
 @RestController
 @RequestMapping("/ai")
@@ -21,101 +45,200 @@ public class AIController {
     @Autowired
     private AIService aiService;
 
+    @Autowired
+    private ResumeGenerationService resumeGenerationService;
+
+    @Autowired
+    private WorkExperienceBatchService workExperienceBatchService;
+
+    @Autowired
+    private BulkJobMatchService bulkJobMatchService;
+
+    @Autowired
+    private ResumeRankingService resumeRankingService;
+
     /**
      * Enhance resume summary using AI
      */
     @PostMapping("/enhance-summary")
-    public ResponseEntity<AIResponse> enhanceSummary(
+    public CompletableFuture<ResponseEntity<AIResponse>> enhanceSummary(
             @AuthenticationPrincipal Object principal,
             @Valid @RequestBody AIRequest request) {
 
-        try {
-            AIResponse response = aiService.enhanceSummary(request);
-            return ResponseEntity.ok(response);
-        } catch (Exception e) {
-            return ResponseEntity.badRequest()
-                    .body(AIResponse.builder()
-                            .error("Failed to enhance summary: " + e.getMessage())
-                            .build());
-        }
+        return aiService.enhanceSummary(request)
+                .thenApply(ResponseEntity::ok)
+                .exceptionally(failure("Failed to enhance summary: ",
+                        message -> AIResponse.builder()
+                                .error(message)
+                                .build()));
     }
 
     /**
      * Enhance work experience bullet points
      */
     @PostMapping("/enhance-work-experience")
-    public ResponseEntity<AIResponse> enhanceWorkExperience(
+    public CompletableFuture<ResponseEntity<AIResponse>> enhanceWorkExperience(
+            @AuthenticationPrincipal Object principal,
+            @Valid @RequestBody AIRequest request) {
+
+        return aiService.enhanceWorkExperience(request)
+                .thenApply(ResponseEntity::ok)
+                .exceptionally(failure("Failed to enhance work experience: ",
+                        message -> AIResponse.builder()
+                                .error(message)
+                                .build()));
+    }
+
+    /**
+     * Enhance several work experiences with as few upstream calls as possible
+     */
+    @PostMapping("/enhance-work-experience/batch")
+    public CompletableFuture<ResponseEntity<WorkExperienceBatchResponse>> enhanceWorkExperienceBatch(
+            @AuthenticationPrincipal Object principal,
+            @Valid @RequestBody AIRequest request) {
+
+        return workExperienceBatchService.enhance(request)
+                .thenApply(ResponseEntity::ok)
+                .exceptionally(failure("Failed to enhance work experience: ",
+                        message -> WorkExperienceBatchResponse.builder()
+                                .errors(List.of(message))
+                                .build()));
+    }
+
+    /**
+     * Stream an enhanced resume summary over Server-Sent Events
+     */
+    @PostMapping(value = "/enhance-summary/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public Flux<ServerSentEvent<String>> streamSummary(
+            @AuthenticationPrincipal Object principal,
+            @Valid @RequestBody AIRequest request) {
+
+        return toEventStream(aiService.streamSummary(request), "Failed to enhance summary: ");
+    }
+
+    /**
+     * Stream enhanced work experience bullet points over Server-Sent Events
+     */
+    @PostMapping(value = "/enhance-work-experience/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public Flux<ServerSentEvent<String>> streamWorkExperience(
             @AuthenticationPrincipal Object principal,
             @Valid @RequestBody AIRequest request) {
 
-        try {
-            AIResponse response = aiService.enhanceWorkExperience(request);
-            return ResponseEntity.ok(response);
-        } catch (Exception e) {
-            return ResponseEntity.badRequest()
-                    .body(AIResponse.builder()
-                            .error("Failed to enhance work experience: " + e.getMessage())
-                            .build());
-        }
+        return toEventStream(aiService.streamWorkExperience(request), "Failed to enhance work experience: ");
     }
 
     /**
      * Analyze job match and provide skill gap analysis
      */
     @PostMapping("/analyze-job-match")
-    public ResponseEntity<JobMatchAnalysis> analyzeJobMatch(
+    public CompletableFuture<ResponseEntity<JobMatchAnalysis>> analyzeJobMatch(
             @AuthenticationPrincipal Object principal,
             @Valid @RequestBody AIRequest request) {
 
-        try {
-            JobMatchAnalysis analysis = aiService.analyzeJobMatch(request);
-            return ResponseEntity.ok(analysis);
-        } catch (Exception e) {
-            return ResponseEntity.badRequest()
-                    .body(JobMatchAnalysis.builder()
-                            .matchScore(0)
-                            .summary("Failed to analyze job match: " + e.getMessage())
-                            .build());
-        }
+        CompletableFuture<JobMatchAnalysis> analysis = aiService.isLocalMode(request)
+                ? CompletableFuture.supplyAsync(() -> aiService.analyzeJobMatchLocally(request), Runnable::run)
+                : aiService.analyzeJobMatch(request);
+        return analysis
+                .thenApply(ResponseEntity::ok)
+                .exceptionally(failure("Failed to analyze job match: ",
+                        message -> JobMatchAnalysis.builder()
+                                .matchScore(0)
+                                .summary(message)
+                                .build()));
+    }
+
+    /**
+     * Match one resume against many job postings and rank the best matches
+     */
+    @PostMapping("/analyze-job-match/bulk")
+    public CompletableFuture<ResponseEntity<BulkJobMatchResponse>> analyzeJobMatchBulk(
+            @AuthenticationPrincipal Object principal,
+            @Valid @RequestBody BulkJobMatchRequest request) {
+
+        return bulkJobMatchService.rank(request)
+                .thenApply(ResponseEntity::ok)
+                .exceptionally(failure("Failed to analyze job matches: ",
+                        message -> BulkJobMatchResponse.builder()
+                                .failed(List.of(JobMatchResult.builder()
+                                        .error(message)
+                                        .build()))
+                                .build()));
+    }
+
+    /**
+     * Match one resume against many job postings over Server-Sent Events.
+     * Each job is sent as a "result" event as soon as it finishes, followed
+     * by the final "ranking" event.
+     */
+    @PostMapping(value = "/analyze-job-match/bulk/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public Flux<ServerSentEvent<Object>> streamJobMatchBulk(
+            @AuthenticationPrincipal Object principal,
+            @Valid @RequestBody BulkJobMatchRequest request) {
+
+        long start = System.currentTimeMillis();
+        BulkJobMatchService.Ranking ranking = bulkJobMatchService.newRanking(request);
+        return bulkJobMatchService.matchAll(request)
+                .doOnNext(ranking::add)
+                .map(result -> ServerSentEvent.<Object>builder(result).event("result").build())
+                .concatWith(Mono.fromCallable(() -> ServerSentEvent.<Object>builder(
+                        ranking.toResponse(System.currentTimeMillis() - start)).event("ranking").build()))
+                .onErrorResume(e -> Flux.just(ServerSentEvent.<Object>builder(
+                                "Failed to analyze job matches: " + e.getMessage())
+                        .event("error")
+                        .build()));
+    }
+
+    /**
+     * Rank all of the current user's resumes against one job description
+     */
+    @PostMapping("/rank-resumes")
+    public CompletableFuture<ResponseEntity<BulkJobMatchResponse>> rankResumes(
+            @AuthenticationPrincipal JwtAuthenticationProvider.UserPrincipal principal,
+            @Valid @RequestBody ResumeRankingRequest request) {
+
+        return resumeRankingService.rank(principal.getId(), request)
+                .thenApply(ResponseEntity::ok)
+                .exceptionally(failure("Failed to rank resumes: ",
+                        message -> BulkJobMatchResponse.builder()
+                                .failed(List.of(JobMatchResult.builder()
+                                        .error(message)
+                                        .build()))
+                                .build()));
     }
 
     /**
      * Suggest skills based on job description
      */
     @PostMapping("/suggest-skills")
-    public ResponseEntity<AIResponse> suggestSkills(
+    public CompletableFuture<ResponseEntity<AIResponse>> suggestSkills(
             @AuthenticationPrincipal Object principal,
             @Valid @RequestBody AIRequest request) {
 
-        try {
-            AIResponse response = aiService.suggestSkills(request);
-            return ResponseEntity.ok(response);
-        } catch (Exception e) {
-            return ResponseEntity.badRequest()
-                    .body(AIResponse.builder()
-                            .error("Failed to suggest skills: " + e.getMessage())
-                            .build());
-        }
+        CompletableFuture<AIResponse> response = aiService.isLocalMode(request)
+                ? CompletableFuture.supplyAsync(() -> aiService.suggestSkillsLocally(request), Runnable::run)
+                : aiService.suggestSkills(request);
+        return response
+                .thenApply(ResponseEntity::ok)
+                .exceptionally(failure("Failed to suggest skills: ",
+                        message -> AIResponse.builder()
+                                .error(message)
+                                .build()));
     }
 
     /**
      * Generate complete resume from structured data
      */
     @PostMapping("/generate-resume")
-    public ResponseEntity<AIResponse> generateResume(
+    public CompletableFuture<ResponseEntity<GeneratedResume>> generateResume(
             @AuthenticationPrincipal Object principal,
             @Valid @RequestBody AIRequest request) {
 
-        try {
-            // This would combine multiple AI calls to generate a complete resume
-            AIResponse response = aiService.enhanceSummary(request);
-            return ResponseEntity.ok(response);
-        } catch (Exception e) {
-            return ResponseEntity.badRequest()
-                    .body(AIResponse.builder()
-                            .error("Failed to generate resume: " + e.getMessage())
-                            .build());
-        }
+        return resumeGenerationService.generateResume(request)
+                .thenApply(ResponseEntity::ok)
+                .exceptionally(failure("Failed to generate resume: ",
+                        message -> GeneratedResume.builder()
+                                .errors(List.of(message))
+                                .build()));
     }
 
     /**
@@ -125,4 +248,39 @@ public class AIController {
     public ResponseEntity<String> health() {
         return ResponseEntity.ok("AI Service is running");
     }
+
+    /**
+     * Wrap tokens as "token" events, followed by a "done" event on completion
+     * or an "error" event on failure
+     */
+    private static Flux<ServerSentEvent<String>> toEventStream(Flux<String> tokens, String errorPrefix) {
+        return tokens
+                .map(token -> ServerSentEvent.builder(token).event("token").build())
+                .concatWith(Flux.just(ServerSentEvent.builder("").event("done").build()))
+                .onErrorResume(e -> Flux.just(ServerSentEvent.builder(errorPrefix + e.getMessage())
+                        .event("error")
+                        .build()));
+    }
+
+    /**
+     * Map an async failure to a 400 with the given body. Overload is
+     * rethrown so GlobalExceptionHandler answers 503 with Retry-After.
+     */
+    private static <T> Function<Throwable, ResponseEntity<T>> failure(String prefix, Function<String, T> body) {
+        return e -> {
+            for (Throwable cause = e; cause != null; cause = cause.getCause()) {
+                if (cause instanceof ServiceUnavailableException unavailable) {
+                    throw unavailable;
+                }
+            }
+            return ResponseEntity.badRequest().body(body.apply(prefix + unwrap(e).getMessage()));
+        };
+    }
+
+    /**
+     * Unwrap the CompletionException wrapping an async failure
+     */
+    private static Throwable unwrap(Throwable e) {
+        return e instanceof CompletionException && e.getCause() != null ? e.getCause() : e;
+    }
 }
\ No newline at end of file
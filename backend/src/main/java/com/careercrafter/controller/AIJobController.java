@@ -0,0 +1,69 @@
+package com.careercrafter.controller;
+
+import com.careercrafter.dto.AIJobRequest;
+import com.careercrafter.dto.AIJobResponse;
+import com.careercrafter.security.JwtAuthenticationProvider;
+import com.careercrafter.service.AIJobService;
+import jakarta.validation.Valid;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.http.codec.ServerSentEvent;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.web.bind.annotation.*;
+import reactor.core.publisher.Flux;
+
+/**
+ * Controller for queued AI jobs
+ *
+ * Long AI operations are submitted as jobs and run by workers on any node;
+ * clients poll the job or follow it over Server-Sent Events.
+ */
+@RestController
+@RequestMapping("/ai/jobs")
+@CrossOrigin(origins = "*")
+public class AIJobController {
+
+    @Autowired
+    private AIJobService jobService;
+
+    /**
+     * Submit a job; responds 202 with the queued job
+     */
+    @PostMapping
+    public ResponseEntity<AIJobResponse> submitJob(
+            @AuthenticationPrincipal JwtAuthenticationProvider.UserPrincipal principal,
+            @Valid @RequestBody AIJobRequest request) {
+
+        AIJobResponse response = jobService.submit(principal.getId(), request);
+        return ResponseEntity.accepted().body(response);
+    }
+
+    /**
+     * Get the current state of a job
+     */
+    @GetMapping("/{jobId}")
+    public ResponseEntity<AIJobResponse> getJob(
+            @AuthenticationPrincipal JwtAuthenticationProvider.UserPrincipal principal,
+            @PathVariable String jobId) {
+
+        return ResponseEntity.ok(jobService.getJob(jobId, principal.getId()));
+    }
+
+    /**
+     * Follow a job over Server-Sent Events. A "status" event is sent on
+     * every state change; the stream ends after the job finishes.
+     */
+    @GetMapping(value = "/{jobId}/events", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public Flux<ServerSentEvent<Object>> streamJob(
+            @AuthenticationPrincipal JwtAuthenticationProvider.UserPrincipal principal,
+            @PathVariable String jobId) {
+
+        return jobService.watch(jobId, principal.getId())
+                .map(job -> ServerSentEvent.<Object>builder(job).event("status").build())
+                .onErrorResume(e -> Flux.just(ServerSentEvent.<Object>builder(
+                                "Failed to follow job: " + e.getMessage())
+                        .event("error")
+                        .build()));
+    }
+}
@@ -3,6 +3,7 @@ package com.careercrafter.controller;
 import com.careercrafter.dto.PDFRequest;
 import com.careercrafter.dto.PDFResponse;
 import com.careercrafter.service.PDFService;
+import com.careercrafter.service.PDFTemplateRegistry;
 import jakarta.validation.Valid;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.HttpHeaders;
@@ -10,7 +11,14 @@ import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.util.StreamUtils;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.Set;
 
 /**
  * Controller for PDF generation and file uploads
@@ -23,6 +31,9 @@ public class PDFController {
     @Autowired
     private PDFService pdfService;
 
+    @Autowired
+    private PDFTemplateRegistry templateRegistry;
+
     /**
      * Generate PDF resume and upload to Cloudinary
      */
@@ -43,44 +54,62 @@ public class PDFController {
     }
 
     /**
-     * Generate PDF resume and return as byte array for download
+     * Generate PDF resume for download.
+     * The PDF is rendered straight into the response with chunked transfer,
+     * so no copy of the document is held on the heap.
      */
     @PostMapping("/download")
-    public ResponseEntity<byte[]> downloadPDF(
+    public ResponseEntity<StreamingResponseBody> downloadPDF(
             @AuthenticationPrincipal Object principal,
             @Valid @RequestBody PDFRequest request) {
 
-        try {
-            byte[] pdfBytes = pdfService.generatePDF(request);
-
-            HttpHeaders headers = new HttpHeaders();
-            headers.setContentType(MediaType.APPLICATION_PDF);
-            headers.setContentDispositionFormData("attachment", "resume.pdf");
-            headers.setContentLength(pdfBytes.length);
-
-            return new ResponseEntity<>(pdfBytes, headers, HttpStatus.OK);
-        } catch (Exception e) {
+        // Checked up front: once streaming has started the status can no longer change
+        if (request.getPersonalInfo() == null) {
             return ResponseEntity.badRequest().build();
         }
+
+        HttpHeaders headers = new HttpHeaders();
+        headers.setContentType(MediaType.APPLICATION_PDF);
+        headers.setContentDispositionFormData("attachment", "resume.pdf");
+
+        StreamingResponseBody body = out -> pdfService.writePDF(request, out);
+        return new ResponseEntity<>(body, headers, HttpStatus.OK);
     }
 
     /**
-     * Generate PDF resume and return as base64 string
+     * Generate PDF resume and return as base64 string.
+     * The PDF is Base64-encoded on the fly while it is rendered into the
+     * response, without a byte[] or String copy of the document.
      */
     @PostMapping("/base64")
-    public ResponseEntity<String> generatePDFBase64(
+    public ResponseEntity<StreamingResponseBody> generatePDFBase64(
             @AuthenticationPrincipal Object principal,
             @Valid @RequestBody PDFRequest request) {
 
-        try {
-            byte[] pdfBytes = pdfService.generatePDF(request);
-            String base64 = java.util.Base64.getEncoder().encodeToString(pdfBytes);
-
-            return ResponseEntity.ok(base64);
-        } catch (Exception e) {
+        if (request.getPersonalInfo() == null) {
             return ResponseEntity.badRequest()
-                    .body("Failed to generate PDF: " + e.getMessage());
+                    .contentType(MediaType.TEXT_PLAIN)
+                    .body(out -> out.write("Failed to generate PDF: personal info is required"
+                            .getBytes(StandardCharsets.UTF_8)));
         }
+
+        StreamingResponseBody body = out -> {
+            // Closing the encoder writes the final padding; the response stream stays open for the container
+            OutputStream base64 = Base64.getEncoder().wrap(StreamUtils.nonClosing(out));
+            pdfService.writePDF(request, base64);
+            base64.close();
+        };
+        return ResponseEntity.ok()
+                .contentType(MediaType.TEXT_PLAIN)
+                .body(body);
+    }
+
+    /**
+     * List the ids of the available resume templates
+     */
+    @GetMapping("/templates")
+    public ResponseEntity<Set<String>> getTemplates() {
+        return ResponseEntity.ok(templateRegistry.getTemplateIds());
     }
 
     /**
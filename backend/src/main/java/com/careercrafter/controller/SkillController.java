@@ -0,0 +1,38 @@
+package com.careercrafter.controller;
+
+import com.careercrafter.dto.RelatedSkill;
+import com.careercrafter.service.SkillCooccurrenceModel;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+
+/**
+ * Controller for instant skill suggestions
+ */
+@RestController
+@RequestMapping("/skills")
+@CrossOrigin(origins = "*")
+public class SkillController {
+
+    private static final int MAX_LIMIT = 50;
+
+    @Autowired
+    private SkillCooccurrenceModel skillCooccurrenceModel;
+
+    /**
+     * Suggest skills that other resumes list together with the given skills
+     */
+    @GetMapping("/related")
+    public ResponseEntity<List<RelatedSkill>> relatedSkills(
+            @AuthenticationPrincipal Object principal,
+            @RequestParam List<String> skills,
+            @RequestParam(defaultValue = "10") int limit) {
+
+        List<RelatedSkill> related = skillCooccurrenceModel.relatedSkills(skills,
+                Math.max(1, Math.min(limit, MAX_LIMIT)));
+        return ResponseEntity.ok(related);
+    }
+}
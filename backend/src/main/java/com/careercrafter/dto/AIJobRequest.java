@@ -0,0 +1,27 @@
+package com.careercrafter.dto;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * DTO for submitting a long-running AI operation to the job queue
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class AIJobRequest {
+
+    // Job type: "generate-resume", "bulk-job-match" or "rank-resumes"
+    @NotBlank(message = "Job type is required")
+    private String type;
+
+    // Request body of the matching synchronous endpoint
+    @NotNull(message = "Job payload is required")
+    private JsonNode payload;
+}
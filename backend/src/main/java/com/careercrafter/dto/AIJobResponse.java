@@ -0,0 +1,36 @@
+package com.careercrafter.dto;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * DTO for the state of a queued AI job
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class AIJobResponse {
+
+    private String id;
+    private String type;
+    private String status;
+    private int attempts;
+    private int maxAttempts;
+
+    // Response body of the matching synchronous endpoint, once the job has succeeded
+    private JsonNode result;
+
+    // Error of the last failed attempt
+    private String error;
+
+    private LocalDateTime runAt;
+    private LocalDateTime createdAt;
+    private LocalDateTime updatedAt;
+    private LocalDateTime completedAt;
+}
@@ -5,11 +5,13 @@ import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
 
+import java.util.List;
+
 /**
  * DTO for AI service requests
  */
 @Data
-@Builder
+@Builder(toBuilder = true)
 @NoArgsConstructor
 @AllArgsConstructor
 public class AIRequest {
@@ -30,4 +32,22 @@ public class AIRequest {
     // For job matching
     private String targetJobTitle;
     private String targetCompany;
+
+    // Analysis mode: "llm" (default), "local" or "hybrid"
+    private String mode;
+
+    // For full resume generation
+    private List<WorkExperienceItem> workExperiences;
+
+    @Data
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class WorkExperienceItem {
+        private String experienceId;
+        private String jobTitle;
+        private String company;
+        private String description;
+        private String achievements;
+    }
 }
\ No newline at end of file
@@ -0,0 +1,38 @@
+package com.careercrafter.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * DTO for matching one resume against many job postings
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class BulkJobMatchRequest {
+
+    private String resumeData;
+    private List<JobPosting> jobs;
+
+    // Number of best matches to rank; defaults to the configured top-k
+    private Integer topK;
+
+    // Analysis mode: "llm" (default), "local" or "hybrid"
+    private String mode;
+
+    @Data
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class JobPosting {
+        private String jobId;
+        private String title;
+        private String company;
+        private String jobDescription;
+    }
+}
@@ -0,0 +1,23 @@
+package com.careercrafter.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * DTO for a ranking of job match results, best match first
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class BulkJobMatchResponse {
+
+    private List<JobMatchResult> ranking;
+    private List<JobMatchResult> failed;
+    private int total;
+    private long responseTime;
+}
@@ -0,0 +1,36 @@
+package com.careercrafter.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * DTO for a fully generated resume assembled from several AI calls
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class GeneratedResume {
+
+    private String summary;
+    private List<ExperienceBullets> workExperience;
+    private String suggestedSkills;
+    private List<String> errors;
+    private long responseTime;
+
+    @Data
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class ExperienceBullets {
+        private String experienceId;
+        private String jobTitle;
+        private String company;
+        private String bullets;
+        private String error;
+    }
+}
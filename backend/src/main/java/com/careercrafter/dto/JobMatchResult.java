@@ -0,0 +1,25 @@
+package com.careercrafter.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * DTO for one entry of a bulk match: a resume against one job posting, or
+ * one of the user's resumes against a job description
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class JobMatchResult {
+
+    private String jobId;
+    private String resumeId;
+    private String title;
+    private String company;
+    private JobMatchAnalysis analysis;
+    private String error;
+    private long responseTime;
+}
@@ -17,6 +17,11 @@ import java.util.List;
 public class PDFRequest {
 
     private String resumeId;
+
+    // Resume template: "classic" (default), "modern" or "elegant"
+    private String templateId;
+
+    // Older name of templateId, used when templateId is absent
     private String template;
     private PersonalInfoDTO personalInfo;
     private List<WorkExperienceDTO> workExperience;
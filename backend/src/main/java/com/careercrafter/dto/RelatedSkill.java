@@ -0,0 +1,20 @@
+package com.careercrafter.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * DTO for a skill suggested from skill co-occurrence across resumes
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class RelatedSkill {
+
+    private String name;
+    private double score;
+    private int coOccurrences;
+}
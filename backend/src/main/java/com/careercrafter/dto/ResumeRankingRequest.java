@@ -0,0 +1,29 @@
+package com.careercrafter.dto;
+
+import jakarta.validation.constraints.NotBlank;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * DTO for ranking all of a user's resumes against one job description
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ResumeRankingRequest {
+
+    @NotBlank(message = "Job description is required")
+    private String jobDescription;
+
+    private String targetJobTitle;
+    private String targetCompany;
+
+    // Number of best resumes to rank; defaults to the configured top-k
+    private Integer topK;
+
+    // Analysis mode: "llm" (default), "local" or "hybrid"
+    private String mode;
+}
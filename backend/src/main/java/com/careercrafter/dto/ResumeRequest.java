@@ -21,6 +21,7 @@ public class ResumeRequest {
     @Size(min = 1, max = 255, message = "Title must be between 1 and 255 characters")
     private String title;
 
+    @Builder.Default
     private Boolean isActive = true;
 
     private String template;
@@ -0,0 +1,24 @@
+package com.careercrafter.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * DTO for enhancing several work experiences in one request
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class WorkExperienceBatchResponse {
+
+    private List<GeneratedResume.ExperienceBullets> workExperience;
+    private int cacheHits;
+    private int upstreamCalls;
+    private List<String> errors;
+    private long responseTime;
+}
@@ -0,0 +1,102 @@
+package com.careercrafter.entity;
+
+import jakarta.persistence.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * AICacheEntry entity representing the ai_cache_entries table
+ * Persistent second tier for AI results keyed by content digest
+ */
+@Entity
+@Table(name = "ai_cache_entries")
+public class AICacheEntry {
+
+    @Id
+    @Column(name = "id", length = 128)
+    private String id;
+
+    @Column(name = "cache_name", nullable = false)
+    private String cacheName;
+
+    @Column(name = "value_type", nullable = false)
+    private String valueType;
+
+    @Column(name = "payload", columnDefinition = "TEXT", nullable = false)
+    private String payload;
+
+    @Column(name = "created_at", nullable = false)
+    private LocalDateTime createdAt;
+
+    @Column(name = "expires_at", nullable = false)
+    private LocalDateTime expiresAt;
+
+    // Constructors
+    public AICacheEntry() {
+    }
+
+    public AICacheEntry(String id, String cacheName, String valueType, String payload) {
+        this.id = id;
+        this.cacheName = cacheName;
+        this.valueType = valueType;
+        this.payload = payload;
+    }
+
+    // Getters and Setters
+    public String getId() {
+        return id;
+    }
+
+    public void setId(String id) {
+        this.id = id;
+    }
+
+    public String getCacheName() {
+        return cacheName;
+    }
+
+    public void setCacheName(String cacheName) {
+        this.cacheName = cacheName;
+    }
+
+    public String getValueType() {
+        return valueType;
+    }
+
+    public void setValueType(String valueType) {
+        this.valueType = valueType;
+    }
+
+    public String getPayload() {
+        return payload;
+    }
+
+    public void setPayload(String payload) {
+        this.payload = payload;
+    }
+
+    public LocalDateTime getCreatedAt() {
+        return createdAt;
+    }
+
+    public void setCreatedAt(LocalDateTime createdAt) {
+        this.createdAt = createdAt;
+    }
+
+    public LocalDateTime getExpiresAt() {
+        return expiresAt;
+    }
+
+    public void setExpiresAt(LocalDateTime expiresAt) {
+        this.expiresAt = expiresAt;
+    }
+
+    @Override
+    public String toString() {
+        return "AICacheEntry{" +
+                "id='" + id + '\'' +
+                ", cacheName='" + cacheName + '\'' +
+                ", valueType='" + valueType + '\'' +
+                '}';
+    }
+}
@@ -35,6 +35,9 @@ public class ResumeVersion {
     @Column(name = "public_share_url")
     private String publicShareUrl;
 
+    @Column(name = "content_hash", length = 64)
+    private String contentHash;
+
     @Column(name = "is_active")
     private Boolean isActive = true;
 
@@ -106,6 +109,14 @@ public class ResumeVersion {
         this.publicShareUrl = publicShareUrl;
     }
 
+    public String getContentHash() {
+        return contentHash;
+    }
+
+    public void setContentHash(String contentHash) {
+        this.contentHash = contentHash;
+    }
+
     public Boolean getIsActive() {
         return isActive;
     }
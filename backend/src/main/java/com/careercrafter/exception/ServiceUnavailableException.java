@@ -0,0 +1,20 @@
+package com.careercrafter.exception;
+
+/**
+ * Exception thrown when a downstream service is overloaded or out of capacity
+ */
+public class ServiceUnavailableException extends RuntimeException {
+
+    /**
+     * Seconds clients are told to wait before retrying
+     */
+    public static final long RETRY_AFTER_SECONDS = 5;
+    
+    public ServiceUnavailableException(String message) {
+        super(message);
+    }
+    
+    public ServiceUnavailableException(String message, Throwable cause) {
+        super(message, cause);
+    }
+} 
@@ -0,0 +1,41 @@
+package com.careercrafter.repository;
+
+import com.careercrafter.entity.AICacheEntry;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+/**
+ * Repository for AICacheEntry entity operations
+ */
+@Repository
+public interface AICacheEntryRepository extends JpaRepository<AICacheEntry, String> {
+
+    /**
+     * Find an entry that has not expired yet
+     */
+    @Query("SELECT e FROM AICacheEntry e WHERE e.id = :id AND e.expiresAt > :now")
+    Optional<AICacheEntry> findValid(@Param("id") String id, @Param("now") LocalDateTime now);
+
+    /**
+     * Delete all entries of a cache
+     */
+    @Modifying
+    @Transactional
+    @Query("DELETE FROM AICacheEntry e WHERE e.cacheName = :cacheName")
+    int deleteByCacheName(@Param("cacheName") String cacheName);
+
+    /**
+     * Delete expired entries
+     */
+    @Modifying
+    @Transactional
+    @Query("DELETE FROM AICacheEntry e WHERE e.expiresAt <= :now")
+    int deleteExpired(@Param("now") LocalDateTime now);
+}
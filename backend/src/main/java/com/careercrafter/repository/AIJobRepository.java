@@ -0,0 +1,100 @@
+package com.careercrafter.repository;
+
+import com.careercrafter.entity.AIJob;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Repository for AIJob entity operations
+ */
+@Repository
+public interface AIJobRepository extends JpaRepository<AIJob, String> {
+
+    /**
+     * Find a job owned by the user
+     */
+    Optional<AIJob> findByIdAndUserId(String id, String userId);
+
+    /**
+     * Lock jobs that are due, or whose worker let the visibility timeout lapse.
+     * Rows locked by another node's claim are skipped rather than waited on.
+     * Must run inside the transaction that marks the jobs as claimed.
+     */
+    @Query(value = "SELECT * FROM ai_jobs " +
+            "WHERE (status = 'PENDING' AND run_at <= :now) " +
+            "OR (status = 'RUNNING' AND locked_until < :now) " +
+            "ORDER BY run_at " +
+            "LIMIT :limit " +
+            "FOR UPDATE SKIP LOCKED", nativeQuery = true)
+    List<AIJob> lockClaimable(@Param("now") LocalDateTime now, @Param("limit") int limit);
+
+    /**
+     * Push back the visibility timeout of jobs this node is still running
+     */
+    @Modifying
+    @Transactional
+    @Query("UPDATE AIJob j SET j.lockedUntil = :until " +
+            "WHERE j.id IN :ids AND j.lockedBy = :node AND j.status = 'RUNNING'")
+    int extendLocks(@Param("ids") Collection<String> ids, @Param("node") String node,
+            @Param("until") LocalDateTime until);
+
+    /**
+     * Record success; a no-op when the job was reclaimed by another worker meanwhile
+     */
+    @Modifying
+    @Transactional
+    @Query("UPDATE AIJob j SET j.status = 'SUCCEEDED', j.result = :result, j.error = NULL, " +
+            "j.lockedBy = NULL, j.lockedUntil = NULL, j.completedAt = :now, j.updatedAt = :now " +
+            "WHERE j.id = :id AND j.lockedBy = :node AND j.status = 'RUNNING'")
+    int markSucceeded(@Param("id") String id, @Param("node") String node, @Param("result") String result,
+            @Param("now") LocalDateTime now);
+
+    /**
+     * Put a failed attempt back in the queue to run again at the given time
+     */
+    @Modifying
+    @Transactional
+    @Query("UPDATE AIJob j SET j.status = 'PENDING', j.error = :error, j.runAt = :runAt, " +
+            "j.lockedBy = NULL, j.lockedUntil = NULL, j.updatedAt = :now " +
+            "WHERE j.id = :id AND j.lockedBy = :node AND j.status = 'RUNNING'")
+    int reschedule(@Param("id") String id, @Param("node") String node, @Param("error") String error,
+            @Param("runAt") LocalDateTime runAt, @Param("now") LocalDateTime now);
+
+    /**
+     * Record a final failure
+     */
+    @Modifying
+    @Transactional
+    @Query("UPDATE AIJob j SET j.status = 'FAILED', j.error = :error, " +
+            "j.lockedBy = NULL, j.lockedUntil = NULL, j.completedAt = :now, j.updatedAt = :now " +
+            "WHERE j.id = :id AND j.lockedBy = :node AND j.status = 'RUNNING'")
+    int markFailed(@Param("id") String id, @Param("node") String node, @Param("error") String error,
+            @Param("now") LocalDateTime now);
+
+    /**
+     * Hand this node's running jobs back to the queue without counting the attempt
+     */
+    @Modifying
+    @Transactional
+    @Query("UPDATE AIJob j SET j.status = 'PENDING', j.attempts = j.attempts - 1, " +
+            "j.lockedBy = NULL, j.lockedUntil = NULL, j.runAt = :now, j.updatedAt = :now " +
+            "WHERE j.lockedBy = :node AND j.status = 'RUNNING'")
+    int releaseAll(@Param("node") String node, @Param("now") LocalDateTime now);
+
+    /**
+     * Delete finished jobs completed before the cutoff
+     */
+    @Modifying
+    @Transactional
+    @Query("DELETE FROM AIJob j WHERE j.status IN ('SUCCEEDED', 'FAILED') AND j.completedAt < :before")
+    int deleteFinishedBefore(@Param("before") LocalDateTime before);
+}
@@ -1,6 +1,7 @@
 package com.careercrafter.repository;
 
 import com.careercrafter.entity.Resume;
+import com.careercrafter.entity.WorkExperience;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
@@ -8,6 +9,7 @@ import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 
@@ -44,6 +46,35 @@ public interface ResumeRepository extends JpaRepository<Resume, String> {
             "WHERE r.id = :resumeId")
     Optional<Resume> findByIdWithDetails(@Param("resumeId") String resumeId);
 
+    /**
+     * Find all resumes for a user with personal info and work experience.
+     * Education and skills are fetched for the same resumes by the queries
+     * below; fetching every list in one join would multiply the rows.
+     */
+    @Query("SELECT DISTINCT r FROM Resume r " +
+            "LEFT JOIN FETCH r.personalInfo " +
+            "LEFT JOIN FETCH r.workExperience " +
+            "WHERE r.user.id = :userId")
+    List<Resume> findByUserIdWithWorkExperience(@Param("userId") String userId);
+
+    /**
+     * Initialize education for already loaded resumes
+     */
+    @Query("SELECT DISTINCT r FROM Resume r LEFT JOIN FETCH r.education WHERE r IN :resumes")
+    List<Resume> fetchEducation(@Param("resumes") List<Resume> resumes);
+
+    /**
+     * Initialize skills for already loaded resumes
+     */
+    @Query("SELECT DISTINCT r FROM Resume r LEFT JOIN FETCH r.skills WHERE r IN :resumes")
+    List<Resume> fetchSkills(@Param("resumes") List<Resume> resumes);
+
+    /**
+     * Initialize work experience achievements for already loaded resumes
+     */
+    @Query("SELECT DISTINCT w FROM WorkExperience w LEFT JOIN FETCH w.achievements WHERE w.resume IN :resumes")
+    List<WorkExperience> fetchWorkExperienceAchievements(@Param("resumes") List<Resume> resumes);
+
     /**
      * Find resume by user ID and resume ID
      */
@@ -64,4 +95,10 @@ public interface ResumeRepository extends JpaRepository<Resume, String> {
      */
     @Query("SELECT r FROM Resume r WHERE r.userId = :userId AND r.createdAt >= CURRENT_DATE - 30")
     List<Resume> findRecentResumes(@Param("userId") String userId);
+
+    /**
+     * Find IDs of resumes updated since the given time
+     */
+    @Query("SELECT r.id FROM Resume r WHERE r.updatedAt >= :since")
+    List<String> findIdsUpdatedSince(@Param("since") LocalDateTime since);
 }
\ No newline at end of file
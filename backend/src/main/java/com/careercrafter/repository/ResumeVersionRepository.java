@@ -31,6 +31,11 @@ public interface ResumeVersionRepository extends JpaRepository<ResumeVersion, St
     @Query("SELECT rv FROM ResumeVersion rv WHERE rv.resumeId = :resumeId ORDER BY rv.versionNumber DESC")
     Optional<ResumeVersion> findLatestVersion(@Param("resumeId") String resumeId);
 
+    /**
+     * Find the latest version of a resume that has a PDF
+     */
+    Optional<ResumeVersion> findFirstByResumeIdAndPdfUrlIsNotNullOrderByVersionNumberDesc(String resumeId);
+
     /**
      * Find version by resume ID and version number
      */
@@ -0,0 +1,37 @@
+package com.careercrafter.repository;
+
+import com.careercrafter.entity.Skills;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Repository for Skills entity operations
+ */
+@Repository
+public interface SkillsRepository extends JpaRepository<Skills, String> {
+
+    /**
+     * Find skill names, ignoring case, that at least the given number of users have entered
+     */
+    @Query("SELECT MIN(s.name) FROM Skills s " +
+            "GROUP BY LOWER(TRIM(s.name)) " +
+            "HAVING COUNT(DISTINCT s.resume.user.id) >= :minUsers")
+    List<String> findNamesUsedByAtLeast(@Param("minUsers") long minUsers);
+
+    /**
+     * Find (resume ID, skill name) pairs for every resume
+     */
+    @Query("SELECT s.resume.id, s.name FROM Skills s")
+    List<Object[]> findAllResumeSkillPairs();
+
+    /**
+     * Find (resume ID, skill name) pairs for resumes updated since the given time
+     */
+    @Query("SELECT s.resume.id, s.name FROM Skills s WHERE s.resume.updatedAt >= :since")
+    List<Object[]> findResumeSkillPairsUpdatedSince(@Param("since") LocalDateTime since);
+}
@@ -45,12 +45,12 @@ public class JwtAuthenticationProvider implements AuthenticationProvider {
         try {
             SecretKey key = Keys.hmacShaKeyFor(clerkSecretKey.getBytes(StandardCharsets.UTF_8));
 
-            Claims claims = Jwts.parserBuilder()
-                    .setSigningKey(key)
+            Claims claims = Jwts.parser()
+                    .verifyWith(key)
                     .requireIssuer(issuerUrl)
                     .build()
-                    .parseClaimsJws(token)
-                    .getBody();
+                    .parseSignedClaims(token)
+                    .getPayload();
 
             // Check if token is expired
             if (claims.getExpiration() != null && claims.getExpiration().before(new Date())) {
@@ -0,0 +1,108 @@
+package com.careercrafter.service;
+
+import com.careercrafter.dto.AIRequest;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.interceptor.KeyGenerator;
+import org.springframework.stereotype.Component;
+
+import java.lang.reflect.Method;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.Locale;
+
+/**
+ * Content-addressed cache keys for AI results.
+ * The key is a SHA-256 digest over the operation, the model parameters and
+ * the whitespace-normalized prompt inputs, so equivalent requests share an
+ * entry and distinct requests cannot collide the way 32-bit hash codes can.
+ */
+@Component("aiCacheKeyGenerator")
+public class AICacheKeyGenerator implements KeyGenerator {
+
+    /**
+     * Bump when a prompt template changes so stale persisted results are not reused
+     */
+    private static final String PROMPT_VERSION = "v4";
+
+    @Value("${ai.groq.model}")
+    private String model;
+
+    @Value("${ai.groq.temperature}")
+    private double temperature;
+
+    @Value("${ai.job-match.default-mode:llm}")
+    private String defaultMode;
+
+    @Override
+    public Object generate(Object target, Method method, Object... params) {
+        return keyFor(method.getName(), (AIRequest) params[0]);
+    }
+
+    /**
+     * Build the cache key for an AI operation, e.g. "enhanceSummary"
+     */
+    public String keyFor(String operation, AIRequest request) {
+        MessageDigest digest = newDigest();
+        update(digest, PROMPT_VERSION);
+        update(digest, operation);
+        update(digest, model);
+        update(digest, Double.toString(temperature));
+        update(digest, request.getPersonalInfo());
+        update(digest, request.getWorkExperience());
+        update(digest, request.getSkills());
+        update(digest, request.getJobDescription());
+        update(digest, request.getJobTitle());
+        update(digest, request.getCompany());
+        update(digest, request.getDescription());
+        update(digest, request.getResumeData());
+        update(digest, request.getExperienceId());
+        update(digest, request.getAchievements());
+        update(digest, request.getTargetJobTitle());
+        update(digest, request.getTargetCompany());
+        update(digest, resolveMode(request.getMode()));
+        return HexFormat.of().formatHex(digest.digest());
+    }
+
+    /**
+     * Mode the request runs in: trimmed and lower-cased, or the default when absent.
+     * "LOCAL", " local" and "local" share an entry, as do an absent mode and the default one.
+     */
+    public String resolveMode(String mode) {
+        String resolved = mode != null && !mode.isBlank() ? mode : defaultMode;
+        return resolved.strip().toLowerCase(Locale.ROOT);
+    }
+
+    /**
+     * Collapse whitespace runs and trim so formatting noise does not change the key
+     */
+    static String normalize(String value) {
+        return value.strip().replaceAll("\\s+", " ");
+    }
+
+    /**
+     * Length-prefix each field so adjacent fields cannot run into each other
+     */
+    private static void update(MessageDigest digest, String value) {
+        if (value == null) {
+            digest.update(intBytes(-1));
+            return;
+        }
+        byte[] bytes = normalize(value).getBytes(StandardCharsets.UTF_8);
+        digest.update(intBytes(bytes.length));
+        digest.update(bytes);
+    }
+
+    private static byte[] intBytes(int value) {
+        return new byte[] { (byte) (value >>> 24), (byte) (value >>> 16), (byte) (value >>> 8), (byte) value };
+    }
+
+    private static MessageDigest newDigest() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+}
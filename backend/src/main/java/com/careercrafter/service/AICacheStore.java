@@ -0,0 +1,155 @@
+package com.careercrafter.service;
+
+import com.careercrafter.entity.AICacheEntry;
+import com.careercrafter.repository.AICacheEntryRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDateTime;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * Persistent second-tier store for AI caches.
+ * Entries survive restarts and are shared by every backend node. Failures
+ * are logged and treated as misses so the store never breaks an AI call.
+ */
+@Service
+public class AICacheStore {
+
+    private static final Logger log = LoggerFactory.getLogger(AICacheStore.class);
+
+    private static final String ALLOWED_TYPE_PREFIX = "com.careercrafter.dto.";
+
+    @Autowired
+    private AICacheEntryRepository cacheEntryRepository;
+
+    @Value("${ai.cache.persistent-ttl-hours:168}")
+    private long ttlHours;
+
+    @Value("${ai.cache.store-threads:4}")
+    private int storeThreads;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private ExecutorService executor;
+
+    @PostConstruct
+    public void init() {
+        this.executor = Executors.newFixedThreadPool(storeThreads);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdown();
+    }
+
+    /**
+     * Load a value without blocking the caller
+     */
+    public CompletableFuture<StoredValue> loadAsync(String cacheName, Object key) {
+        return CompletableFuture.supplyAsync(() -> load(cacheName, key), executor);
+    }
+
+    /**
+     * Load a value with the time it was stored, or null when absent, expired or unreadable
+     */
+    public StoredValue load(String cacheName, Object key) {
+        try {
+            return cacheEntryRepository.findValid(entryId(cacheName, key), LocalDateTime.now())
+                    .map(entry -> {
+                        Object value = deserialize(entry);
+                        return value != null ? new StoredValue(value, entry.getCreatedAt()) : null;
+                    })
+                    .orElse(null);
+        } catch (Exception e) {
+            log.warn("Failed to read AI cache entry {}/{}: {}", cacheName, key, e.getMessage());
+            return null;
+        }
+    }
+
+    /**
+     * Persist a value in the background
+     */
+    public void storeAsync(String cacheName, Object key, Object value) {
+        if (value == null || !value.getClass().getName().startsWith(ALLOWED_TYPE_PREFIX)) {
+            return;
+        }
+        executor.execute(() -> {
+            try {
+                AICacheEntry entry = new AICacheEntry(entryId(cacheName, key), cacheName,
+                        value.getClass().getName(), objectMapper.writeValueAsString(value));
+                LocalDateTime now = LocalDateTime.now();
+                entry.setCreatedAt(now);
+                entry.setExpiresAt(now.plusHours(ttlHours));
+                cacheEntryRepository.save(entry);
+            } catch (Exception e) {
+                log.warn("Failed to write AI cache entry {}/{}: {}", cacheName, key, e.getMessage());
+            }
+        });
+    }
+
+    /**
+     * Remove a value in the background
+     */
+    public void evictAsync(String cacheName, Object key) {
+        executor.execute(() -> {
+            try {
+                cacheEntryRepository.deleteById(entryId(cacheName, key));
+            } catch (Exception e) {
+                log.warn("Failed to evict AI cache entry {}/{}: {}", cacheName, key, e.getMessage());
+            }
+        });
+    }
+
+    /**
+     * Remove every value of a cache
+     */
+    public void clear(String cacheName) {
+        cacheEntryRepository.deleteByCacheName(cacheName);
+    }
+
+    /**
+     * Purge expired entries periodically
+     */
+    @Scheduled(fixedDelayString = "${ai.cache.cleanup-interval-ms:3600000}")
+    public void purgeExpired() {
+        try {
+            int deleted = cacheEntryRepository.deleteExpired(LocalDateTime.now());
+            if (deleted > 0) {
+                log.info("Purged {} expired AI cache entries", deleted);
+            }
+        } catch (Exception e) {
+            log.warn("Failed to purge expired AI cache entries: {}", e.getMessage());
+        }
+    }
+
+    private Object deserialize(AICacheEntry entry) {
+        if (!entry.getValueType().startsWith(ALLOWED_TYPE_PREFIX)) {
+            return null;
+        }
+        try {
+            return objectMapper.readValue(entry.getPayload(), Class.forName(entry.getValueType()));
+        } catch (Exception e) {
+            log.warn("Failed to deserialize AI cache entry {}: {}", entry.getId(), e.getMessage());
+            return null;
+        }
+    }
+
+    private static String entryId(String cacheName, Object key) {
+        return cacheName + ":" + key;
+    }
+
+    /**
+     * A persisted value and the time it was written
+     */
+    public record StoredValue(Object value, LocalDateTime createdAt) {
+    }
+}
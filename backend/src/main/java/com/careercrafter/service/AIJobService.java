@@ -0,0 +1,317 @@
+package com.careercrafter.service;
+
+import com.careercrafter.dto.AIJobRequest;
+import com.careercrafter.dto.AIJobResponse;
+import com.careercrafter.dto.AIRequest;
+import com.careercrafter.dto.BulkJobMatchRequest;
+import com.careercrafter.dto.ResumeRankingRequest;
+import com.careercrafter.entity.AIJob;
+import com.careercrafter.exception.ResourceNotFoundException;
+import com.careercrafter.exception.ValidationException;
+import com.careercrafter.repository.AIJobRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Service for the persistent AI job queue.
+ * Jobs live in the ai_jobs table, so every backend node shares one queue
+ * and a restart loses nothing. Workers claim due jobs with
+ * SELECT ... FOR UPDATE SKIP LOCKED and hold them for a visibility timeout
+ * that they keep extending while the job runs; a job whose worker died
+ * becomes claimable again once the timeout lapses. Failed attempts are
+ * retried with exponential backoff up to the attempt limit.
+ */
+@Service
+public class AIJobService {
+
+    private static final Logger log = LoggerFactory.getLogger(AIJobService.class);
+
+    public static final String TYPE_GENERATE_RESUME = "generate-resume";
+    public static final String TYPE_BULK_JOB_MATCH = "bulk-job-match";
+    public static final String TYPE_RANK_RESUMES = "rank-resumes";
+
+    /**
+     * Request body type of each job type
+     */
+    private static final Map<String, Class<?>> PAYLOAD_TYPES = Map.of(
+            TYPE_GENERATE_RESUME, AIRequest.class,
+            TYPE_BULK_JOB_MATCH, BulkJobMatchRequest.class,
+            TYPE_RANK_RESUMES, ResumeRankingRequest.class);
+
+    private static final int MAX_ERROR_LENGTH = 2000;
+
+    @Autowired
+    private AIJobRepository jobRepository;
+
+    @Autowired
+    private Validator validator;
+
+    @Value("${ai.jobs.max-attempts:3}")
+    private int maxAttempts;
+
+    @Value("${ai.jobs.visibility-timeout-seconds:120}")
+    private long visibilityTimeoutSeconds;
+
+    @Value("${ai.jobs.retry-base-seconds:10}")
+    private long retryBaseSeconds;
+
+    @Value("${ai.jobs.retry-max-seconds:600}")
+    private long retryMaxSeconds;
+
+    @Value("${ai.jobs.retention-hours:72}")
+    private long retentionHours;
+
+    @Value("${ai.jobs.watch-interval-ms:1000}")
+    private long watchIntervalMs;
+
+    @Value("${ai.jobs.watch-timeout-seconds:600}")
+    private long watchTimeoutSeconds;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final MeterRegistry meterRegistry;
+
+    public AIJobService(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+
+    /**
+     * Queue a job for the user; the payload is parsed and validated against
+     * the job type up front, like the body of the synchronous endpoint
+     */
+    public AIJobResponse submit(String userId, AIJobRequest request) {
+        Class<?> payloadType = PAYLOAD_TYPES.get(request.getType());
+        if (payloadType == null) {
+            throw new ValidationException("Unknown job type: " + request.getType());
+        }
+        Object payload;
+        try {
+            payload = objectMapper.treeToValue(request.getPayload(), payloadType);
+        } catch (Exception e) {
+            throw new ValidationException("Invalid payload for job type " + request.getType(), e);
+        }
+        if (payload == null) {
+            throw new ValidationException("Job payload is required");
+        }
+        Set<ConstraintViolation<Object>> violations = validator.validate(payload);
+        if (!violations.isEmpty()) {
+            List<String> messages = new ArrayList<>(violations.size());
+            for (ConstraintViolation<Object> violation : violations) {
+                messages.add(violation.getPropertyPath() + ": " + violation.getMessage());
+            }
+            messages.sort(null);
+            throw new ValidationException("Invalid payload for job type " + request.getType() + ": "
+                    + String.join(", ", messages));
+        }
+
+        LocalDateTime now = LocalDateTime.now();
+        AIJob job = new AIJob(UUID.randomUUID().toString(), userId, request.getType(),
+                request.getPayload().toString());
+        job.setStatus(AIJob.STATUS_PENDING);
+        job.setAttempts(0);
+        job.setMaxAttempts(maxAttempts);
+        job.setRunAt(now);
+        job.setCreatedAt(now);
+        job.setUpdatedAt(now);
+        return mapToResponse(jobRepository.save(job));
+    }
+
+    /**
+     * Get a job of the user
+     */
+    @Transactional(readOnly = true)
+    public AIJobResponse getJob(String jobId, String userId) {
+        return jobRepository.findByIdAndUserId(jobId, userId)
+                .map(this::mapToResponse)
+                .orElseThrow(() -> new ResourceNotFoundException("Job not found"));
+    }
+
+    /**
+     * Poll a job of the user, emitting its state whenever it changes until it finishes
+     */
+    public Flux<AIJobResponse> watch(String jobId, String userId) {
+        return Flux.interval(Duration.ZERO, Duration.ofMillis(watchIntervalMs))
+                .onBackpressureDrop()
+                .concatMap(tick -> Mono.fromCallable(() -> getJob(jobId, userId))
+                        .subscribeOn(Schedulers.boundedElastic()))
+                .distinctUntilChanged(job -> job.getStatus() + '|' + job.getAttempts())
+                .takeUntil(job -> AIJob.STATUS_SUCCEEDED.equals(job.getStatus())
+                        || AIJob.STATUS_FAILED.equals(job.getStatus()))
+                .take(Duration.ofSeconds(watchTimeoutSeconds));
+    }
+
+    /**
+     * Claim up to limit due jobs for the node. Jobs whose last attempt ran
+     * out its visibility timeout are failed here instead of being claimed.
+     */
+    @Transactional
+    public List<AIJob> claim(String node, int limit) {
+        LocalDateTime now = LocalDateTime.now();
+        List<AIJob> claimed = new ArrayList<>();
+        for (AIJob job : jobRepository.lockClaimable(now, limit)) {
+            job.setLockedBy(null);
+            job.setLockedUntil(null);
+            job.setUpdatedAt(now);
+            if (job.getAttempts() >= job.getMaxAttempts()) {
+                job.setStatus(AIJob.STATUS_FAILED);
+                job.setError("Worker timed out on the last of " + job.getMaxAttempts() + " attempts");
+                job.setCompletedAt(now);
+                outcome(job, "failed");
+                continue;
+            }
+            job.setStatus(AIJob.STATUS_RUNNING);
+            job.setAttempts(job.getAttempts() + 1);
+            job.setLockedBy(node);
+            job.setLockedUntil(now.plusSeconds(visibilityTimeoutSeconds));
+            claimed.add(job);
+        }
+        return claimed;
+    }
+
+    /**
+     * Extend the visibility timeout of the jobs the node is running
+     */
+    public void heartbeat(String node, Collection<String> jobIds) {
+        if (!jobIds.isEmpty()) {
+            jobRepository.extendLocks(jobIds, node, LocalDateTime.now().plusSeconds(visibilityTimeoutSeconds));
+        }
+    }
+
+    /**
+     * Store the result of a claimed job
+     */
+    public void succeed(AIJob job, String node, Object result) {
+        String json;
+        try {
+            json = objectMapper.writeValueAsString(result);
+        } catch (Exception e) {
+            fail(job, node, new IllegalStateException("Failed to serialize job result", e));
+            return;
+        }
+        if (jobRepository.markSucceeded(job.getId(), node, json, LocalDateTime.now()) == 0) {
+            log.warn("AI job {} lost its lock before completing; the result was dropped", job.getId());
+            return;
+        }
+        outcome(job, "succeeded");
+    }
+
+    /**
+     * Record a failed attempt: retried with backoff unless it cannot succeed or was the last attempt
+     */
+    public void fail(AIJob job, String node, Throwable error) {
+        LocalDateTime now = LocalDateTime.now();
+        String message = truncate(error.getMessage() != null ? error.getMessage() : error.getClass().getSimpleName());
+        boolean retriable = !(error instanceof ValidationException || error instanceof IllegalArgumentException);
+        int updated;
+        if (retriable && job.getAttempts() < job.getMaxAttempts()) {
+            updated = jobRepository.reschedule(job.getId(), node, message, now.plus(backoff(job.getAttempts())), now);
+            outcome(job, "retried");
+        } else {
+            updated = jobRepository.markFailed(job.getId(), node, message, now);
+            outcome(job, "failed");
+        }
+        if (updated == 0) {
+            log.warn("AI job {} lost its lock before its failure was recorded", job.getId());
+        }
+    }
+
+    /**
+     * Hand the node's running jobs back to the queue, e.g. on shutdown
+     */
+    public int release(String node) {
+        return jobRepository.releaseAll(node, LocalDateTime.now());
+    }
+
+    /**
+     * Exponential backoff with jitter, so retries from many nodes do not line up
+     */
+    private Duration backoff(int attempts) {
+        long seconds = Math.min(retryMaxSeconds, retryBaseSeconds << Math.min(20, attempts - 1));
+        double jitter = 0.8 + ThreadLocalRandom.current().nextDouble() * 0.4;
+        return Duration.ofMillis((long) (seconds * 1000 * jitter));
+    }
+
+    /**
+     * Purge finished jobs periodically
+     */
+    @Scheduled(fixedDelayString = "${ai.jobs.cleanup-interval-ms:3600000}")
+    public void purgeFinished() {
+        try {
+            int deleted = jobRepository.deleteFinishedBefore(LocalDateTime.now().minusHours(retentionHours));
+            if (deleted > 0) {
+                log.info("Purged {} finished AI jobs", deleted);
+            }
+        } catch (Exception e) {
+            log.warn("Failed to purge finished AI jobs: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * Deserialize the payload of a claimed job
+     */
+    <T> T payload(AIJob job, Class<T> type) {
+        try {
+            return objectMapper.readValue(job.getPayload(), type);
+        } catch (Exception e) {
+            throw new ValidationException("Invalid payload for job " + job.getId(), e);
+        }
+    }
+
+    private void outcome(AIJob job, String outcome) {
+        Counter.builder("ai.jobs.attempts")
+                .tag("type", job.getType())
+                .tag("outcome", outcome)
+                .description("Finished AI job attempts by outcome")
+                .register(meterRegistry)
+                .increment();
+    }
+
+    private AIJobResponse mapToResponse(AIJob job) {
+        AIJobResponse response = AIJobResponse.builder()
+                .id(job.getId())
+                .type(job.getType())
+                .status(job.getStatus())
+                .attempts(job.getAttempts())
+                .maxAttempts(job.getMaxAttempts())
+                .error(job.getError())
+                .runAt(job.getRunAt())
+                .createdAt(job.getCreatedAt())
+                .updatedAt(job.getUpdatedAt())
+                .completedAt(job.getCompletedAt())
+                .build();
+        if (job.getResult() != null) {
+            try {
+                response.setResult(objectMapper.readTree(job.getResult()));
+            } catch (Exception e) {
+                log.warn("Failed to read result of AI job {}: {}", job.getId(), e.getMessage());
+            }
+        }
+        return response;
+    }
+
+    private static String truncate(String message) {
+        return message.length() > MAX_ERROR_LENGTH ? message.substring(0, MAX_ERROR_LENGTH) : message;
+    }
+}
@@ -0,0 +1,192 @@
+package com.careercrafter.service;
+
+import com.careercrafter.dto.AIRequest;
+import com.careercrafter.dto.BulkJobMatchRequest;
+import com.careercrafter.dto.ResumeRankingRequest;
+import com.careercrafter.entity.AIJob;
+import com.careercrafter.exception.ValidationException;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.net.InetAddress;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * Worker pool for the persistent AI job queue.
+ * Every node polls the queue and claims only as many jobs as it has free
+ * workers, so throughput scales with the number of nodes. Jobs run in the
+ * background AI lane, and the visibility timeout of running jobs is
+ * extended on a heartbeat. Polling and the heartbeat run on the worker's own
+ * scheduler, so a slow claim never delays the heartbeat and neither waits
+ * behind other scheduled tasks. A job that runs past its timeout is
+ * cancelled before it is failed. On shutdown running jobs are handed back to the
+ * queue for another node to pick up.
+ */
+@Component
+public class AIJobWorker {
+
+    private static final Logger log = LoggerFactory.getLogger(AIJobWorker.class);
+
+    @Autowired
+    private AIJobService jobService;
+
+    @Autowired
+    private ResumeGenerationService resumeGenerationService;
+
+    @Autowired
+    private BulkJobMatchService bulkJobMatchService;
+
+    @Autowired
+    private ResumeRankingService resumeRankingService;
+
+    @Value("${ai.jobs.enabled:true}")
+    private boolean enabled;
+
+    @Value("${ai.jobs.worker-threads:4}")
+    private int workerThreads;
+
+    @Value("${ai.jobs.node-id:}")
+    private String nodeId;
+
+    @Value("${ai.jobs.job-timeout-seconds:300}")
+    private long jobTimeoutSeconds;
+
+    @Value("${ai.jobs.poll-interval-ms:1000}")
+    private long pollIntervalMs;
+
+    @Value("${ai.jobs.heartbeat-interval-ms:30000}")
+    private long heartbeatIntervalMs;
+
+    private final Map<String, AIJob> running = new ConcurrentHashMap<>();
+    private ExecutorService executor;
+    private ScheduledExecutorService scheduler;
+    private volatile boolean stopping;
+
+    public AIJobWorker(MeterRegistry meterRegistry) {
+        Gauge.builder("ai.jobs.running", running, Map::size)
+                .description("AI jobs running on this node")
+                .register(meterRegistry);
+    }
+
+    @PostConstruct
+    public void init() {
+        this.executor = Executors.newFixedThreadPool(workerThreads);
+        if (nodeId == null || nodeId.isBlank()) {
+            nodeId = hostName() + "-" + UUID.randomUUID().toString().substring(0, 8);
+        }
+        // One thread each for polling and the heartbeat
+        this.scheduler = Executors.newScheduledThreadPool(2);
+        scheduler.scheduleWithFixedDelay(this::poll, pollIntervalMs, pollIntervalMs, TimeUnit.MILLISECONDS);
+        scheduler.scheduleWithFixedDelay(this::heartbeat, heartbeatIntervalMs, heartbeatIntervalMs,
+                TimeUnit.MILLISECONDS);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        stopping = true;
+        scheduler.shutdownNow();
+        try {
+            int released = jobService.release(nodeId);
+            if (released > 0) {
+                log.info("Released {} running AI jobs back to the queue", released);
+            }
+        } catch (Exception e) {
+            log.warn("Failed to release running AI jobs; they will be retried after the visibility timeout: {}",
+                    e.getMessage());
+        }
+        executor.shutdownNow();
+    }
+
+    /**
+     * Claim due jobs up to the number of free workers
+     */
+    public void poll() {
+        int free = workerThreads - running.size();
+        if (!enabled || stopping || free <= 0) {
+            return;
+        }
+        try {
+            for (AIJob job : jobService.claim(nodeId, free)) {
+                running.put(job.getId(), job);
+                executor.execute(() -> run(job));
+            }
+        } catch (Exception e) {
+            log.warn("Failed to claim AI jobs: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * Keep the jobs this node is running invisible to other workers
+     */
+    public void heartbeat() {
+        try {
+            jobService.heartbeat(nodeId, running.keySet());
+        } catch (Exception e) {
+            log.warn("Failed to extend AI job locks: {}", e.getMessage());
+        }
+    }
+
+    private void run(AIJob job) {
+        CompletableFuture<?> future = null;
+        try {
+            future = AIPriority.background(() -> start(job));
+            Object result = future.get(jobTimeoutSeconds, TimeUnit.SECONDS);
+            jobService.succeed(job, nodeId, result);
+        } catch (ExecutionException e) {
+            jobService.fail(job, nodeId, e.getCause() != null ? e.getCause() : e);
+        } catch (TimeoutException e) {
+            // Stop the operation before the job is rescheduled, so two runs never overlap
+            future.cancel(true);
+            jobService.fail(job, nodeId, e);
+        } catch (InterruptedException e) {
+            // Shutting down; the job was released or will reappear after the visibility timeout
+            if (future != null) {
+                future.cancel(true);
+            }
+            Thread.currentThread().interrupt();
+        } catch (Exception e) {
+            jobService.fail(job, nodeId, e);
+        } finally {
+            running.remove(job.getId());
+        }
+    }
+
+    /**
+     * Start the operation behind the job; the same services serve the synchronous endpoints
+     */
+    private CompletableFuture<?> start(AIJob job) {
+        return switch (job.getType()) {
+            case AIJobService.TYPE_GENERATE_RESUME ->
+                    resumeGenerationService.generateResume(jobService.payload(job, AIRequest.class));
+            case AIJobService.TYPE_BULK_JOB_MATCH ->
+                    bulkJobMatchService.rank(jobService.payload(job, BulkJobMatchRequest.class));
+            case AIJobService.TYPE_RANK_RESUMES ->
+                    resumeRankingService.rank(job.getUserId(), jobService.payload(job, ResumeRankingRequest.class));
+            default -> CompletableFuture.failedFuture(new ValidationException("Unknown job type: " + job.getType()));
+        };
+    }
+
+    private static String hostName() {
+        try {
+            return InetAddress.getLocalHost().getHostName();
+        } catch (Exception e) {
+            return "node";
+        }
+    }
+}
@@ -0,0 +1,51 @@
+package com.careercrafter.service;
+
+import java.util.function.Supplier;
+
+/**
+ * Scheduling lane of an AI call.
+ * Calls are interactive unless the calling code runs them inside
+ * {@link #background(Supplier)}. The lane is read when an AIService method
+ * is entered, so wrap the call that starts the work, not the subscription.
+ */
+public enum AIPriority {
+
+    INTERACTIVE,
+    BACKGROUND;
+
+    private static final ThreadLocal<AIPriority> CURRENT = ThreadLocal.withInitial(() -> INTERACTIVE);
+
+    /**
+     * Lane of the work running on this thread
+     */
+    public static AIPriority current() {
+        return CURRENT.get();
+    }
+
+    /**
+     * Run the work in the given lane, restoring the previous lane afterwards
+     */
+    public static <T> T runIn(AIPriority lane, Supplier<T> work) {
+        AIPriority previous = CURRENT.get();
+        CURRENT.set(lane);
+        try {
+            return work.get();
+        } finally {
+            CURRENT.set(previous);
+        }
+    }
+
+    /**
+     * Run the work in the background lane
+     */
+    public static <T> T background(Supplier<T> work) {
+        return runIn(BACKGROUND, work);
+    }
+
+    /**
+     * Lowercase name used as a metric tag
+     */
+    public String tag() {
+        return name().toLowerCase();
+    }
+}
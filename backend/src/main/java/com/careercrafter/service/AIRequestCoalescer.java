@@ -0,0 +1,84 @@
+package com.careercrafter.service;
+
+import com.careercrafter.dto.AIResponse;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+/**
+ * Single-flight coalescing for Groq calls.
+ * Concurrent requests with the same key share one upstream call instead of
+ * each sending an identical prompt.
+ */
+@Component
+public class AIRequestCoalescer {
+
+    private final Map<String, CompletableFuture<AIResponse>> inFlight = new ConcurrentHashMap<>();
+
+    private final Counter upstreamCalls;
+    private final Counter deduplicatedCalls;
+
+    public AIRequestCoalescer(MeterRegistry meterRegistry) {
+        this.upstreamCalls = Counter.builder("ai.coalescer.calls")
+                .tag("result", "upstream")
+                .description("AI calls that were sent to Groq")
+                .register(meterRegistry);
+        this.deduplicatedCalls = Counter.builder("ai.coalescer.calls")
+                .tag("result", "deduplicated")
+                .description("AI calls that joined an identical in-flight call")
+                .register(meterRegistry);
+        meterRegistry.gauge("ai.coalescer.in-flight", inFlight, Map::size);
+    }
+
+    /**
+     * Execute the upstream call for the key, or join the call already in flight
+     */
+    public Mono<AIResponse> execute(String key, Supplier<Mono<AIResponse>> upstream) {
+        return Mono.defer(() -> {
+            CompletableFuture<AIResponse> created = new CompletableFuture<>();
+            CompletableFuture<AIResponse> existing = inFlight.putIfAbsent(key, created);
+            if (existing != null) {
+                deduplicatedCalls.increment();
+                return Mono.fromFuture(existing, true);
+            }
+
+            upstreamCalls.increment();
+            // The shared call is not tied to any one subscriber, so a client
+            // disconnecting does not cancel it for the others
+            upstream.get().subscribe(
+                    response -> {
+                        inFlight.remove(key, created);
+                        created.complete(response);
+                    },
+                    error -> {
+                        inFlight.remove(key, created);
+                        created.completeExceptionally(error);
+                    },
+                    () -> {
+                        inFlight.remove(key, created);
+                        created.complete(null);
+                    });
+            return Mono.fromFuture(created, true);
+        });
+    }
+
+    /**
+     * Number of calls sent upstream
+     */
+    public double getUpstreamCount() {
+        return upstreamCalls.count();
+    }
+
+    /**
+     * Number of calls that joined an in-flight call
+     */
+    public double getDeduplicatedCount() {
+        return deduplicatedCalls.count();
+    }
+}
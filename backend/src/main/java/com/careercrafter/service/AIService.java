@@ -3,152 +3,644 @@ package com.careercrafter.service;
 import com.careercrafter.dto.AIRequest;
 import com.careercrafter.dto.AIResponse;
 import com.careercrafter.dto.JobMatchAnalysis;
+import com.careercrafter.exception.ServiceUnavailableException;
+import com.fasterxml.jackson.core.type.TypeReference;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
 import org.springframework.cache.annotation.Cacheable;
+import org.springframework.core.ParameterizedTypeReference;
+import org.springframework.http.MediaType;
+import org.springframework.http.codec.ServerSentEvent;
+import org.springframework.http.client.reactive.ReactorClientHttpConnector;
 import org.springframework.stereotype.Service;
 import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.netty.http.client.HttpClient;
+import reactor.netty.resources.ConnectionProvider;
 
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Predicate;
 
 /**
  * AI Service for Groq API integration
  * Handles resume enhancement and job matching analysis
+ *
+ * All calls are non-blocking: the Groq round trip runs on the reactor-netty
+ * event loop and the number of concurrent calls is bounded by the outbound
+ * connection pool rather than by servlet worker threads.
  */
 @Service
 public class AIService {
 
+    public static final String MODE_LLM = "llm";
+    public static final String MODE_LOCAL = "local";
+    public static final String MODE_HYBRID = "hybrid";
+
+    /**
+     * Expected completion sizes, with headroom, for each output shape
+     */
+    private static final int SUMMARY_OUTPUT_TOKENS = 250;
+    private static final int BULLETS_OUTPUT_TOKENS = 450;
+    private static final int JOB_MATCH_OUTPUT_TOKENS = 700;
+    private static final int SKILLS_OUTPUT_TOKENS = 160;
+    private static final int MIN_OUTPUT_TOKENS = 64;
+
+    /**
+     * Acceptance checks for fast model answers
+     */
+    private static final int MIN_BULLETS = 2;
+    private static final int MIN_SUMMARY_LENGTH = 40;
+    private static final int MAX_SUMMARY_LENGTH = 1500;
+    private static final TypeReference<List<String>> STRING_LIST = new TypeReference<>() {
+    };
+
+    private static final PromptTemplate SUMMARY_TEMPLATE = PromptTemplate.compile("""
+            Based on the following information, write a professional summary (2-3 sentences) that would be perfect for a resume.
+            Focus on key achievements, skills, and career highlights. Make it engaging and professional.
+
+            Personal Info: %s
+            Work Experience: %s
+            Skills: %s
+            %s
+            """);
+
+    private static final PromptTemplate WORK_EXPERIENCE_TEMPLATE = PromptTemplate.compile("""
+            Enhance the following work experience into 3-5 powerful bullet points that demonstrate impact and achievements.
+            Use metrics where possible and start with strong action verbs. Return as JSON array only.
+
+            Job Title: %s
+            Company: %s
+            Current Description: %s
+            %s
+            %s
+            """);
+
+    private static final PromptTemplate WORK_EXPERIENCE_BATCH_TEMPLATE = PromptTemplate.compile("""
+            Enhance each of the following work experiences into 3-5 powerful bullet points that demonstrate impact and achievements.
+            Use metrics where possible and start with strong action verbs.
+            %s
+            Work experiences (JSON):
+            %s
+
+            Return only a JSON object of the form {"results": [{"id": "<id>", "bullets": ["..."]}]}
+            with exactly one entry per work experience, using the ids given above.
+            """);
+
+    private static final PromptTemplate JOB_MATCH_TEMPLATE = PromptTemplate.compile("""
+            Analyze the following resume against the job description and provide a detailed match analysis.
+            Return a JSON object with:
+            - matchScore: number (0-100)
+            - missingSkills: array of skills mentioned in job but missing from resume
+            - strengths: array of strong matching points
+            - suggestions: array of improvement suggestions
+
+            Resume: %s
+
+            Job Description: %s
+
+            Skills detected in job description: %s
+            Skills detected in resume: %s
+            """);
+
+    private static final PromptTemplate SKILLS_TEMPLATE = PromptTemplate.compile("""
+            Current Skills: %s
+
+            Job Description: %s
+
+            Skills detected in job description: %s
+
+            Suggest 5-8 additional skills that would be valuable for this role but are not already listed.
+            Return as JSON array of skill names only.
+            """);
+
     @Value("${ai.groq.api-key}")
     private String apiKey;
 
     @Value("${ai.groq.base-url}")
     private String baseUrl;
 
-    @Value("${ai.groq.model}")
-    private String model;
-
     @Value("${ai.groq.max-tokens}")
     private int maxTokens;
 
     @Value("${ai.groq.temperature}")
     private double temperature;
 
-    private final WebClient webClient;
+    @Value("${ai.groq.max-connections:50}")
+    private int maxConnections;
+
+    @Value("${ai.groq.pending-acquire-max-count:200}")
+    private int pendingAcquireMaxCount;
+
+    @Value("${ai.groq.timeout-seconds:30}")
+    private long timeoutSeconds;
+
+    @Value("${ai.tokens.context-window:32768}")
+    private int contextWindow;
+
+    @Value("${ai.tokens.max-input-tokens:2000}")
+    private int maxInputTokens;
+
+    @Value("${ai.job-match.prefilter-threshold:20}")
+    private int prefilterThreshold;
+
+    @Autowired
+    private CacheManager cacheManager;
+
+    @Autowired
+    private AIRequestCoalescer requestCoalescer;
+
+    @Autowired
+    private AICacheKeyGenerator cacheKeyGenerator;
+
+    @Autowired
+    private AdaptiveConcurrencyLimiter concurrencyLimiter;
+
+    @Autowired
+    private JobMatchScorer jobMatchScorer;
+
+    @Autowired
+    private SkillDictionary skillDictionary;
+
+    @Autowired
+    private TokenEstimator tokenEstimator;
+
+    @Autowired
+    private JobDescriptionCompressor jobDescriptionCompressor;
+
+    @Autowired
+    private NearDuplicateCache nearDuplicateCache;
+
+    @Autowired
+    private ModelRouter modelRouter;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    private WebClient webClient;
+    private GroqPayloadCodec payloadCodec;
     private final ObjectMapper objectMapper;
 
     public AIService() {
+        this.objectMapper = new ObjectMapper();
+    }
+
+    @PostConstruct
+    public void init() {
+        this.payloadCodec = new GroqPayloadCodec(temperature);
+
+        ConnectionProvider connectionProvider = ConnectionProvider.builder("groq")
+                .maxConnections(maxConnections)
+                .pendingAcquireMaxCount(pendingAcquireMaxCount)
+                .pendingAcquireTimeout(Duration.ofSeconds(timeoutSeconds))
+                .build();
+
+        HttpClient httpClient = HttpClient.create(connectionProvider)
+                .responseTimeout(Duration.ofSeconds(timeoutSeconds));
+
         this.webClient = WebClient.builder()
                 .baseUrl(baseUrl)
+                .clientConnector(new ReactorClientHttpConnector(httpClient))
                 .defaultHeader("Authorization", "Bearer " + apiKey)
                 .defaultHeader("Content-Type", "application/json")
                 .build();
-        this.objectMapper = new ObjectMapper();
     }
 
     /**
      * Enhance resume summary using AI
      */
-    @Cacheable(value = "ai-summary", key = "#request.hashCode()")
-    public AIResponse enhanceSummary(AIRequest request) {
-        String prompt = buildSummaryPrompt(request);
-        return callGroqAPI(prompt, 500);
+    @Cacheable(value = "ai-summary", keyGenerator = "aiCacheKeyGenerator", sync = true)
+    public CompletableFuture<AIResponse> enhanceSummary(AIRequest request) {
+        String prompt = buildSummaryPrompt(withinBudget(request));
+        return callGroqAPI(AIPriority.current(), "enhanceSummary", prompt, SUMMARY_OUTPUT_TOKENS,
+                AIService::isUsableSummary).toFuture();
     }
 
     /**
      * Enhance work experience bullet points
      */
-    @Cacheable(value = "ai-bullets", key = "#request.hashCode()")
-    public AIResponse enhanceWorkExperience(AIRequest request) {
-        String prompt = buildWorkExperiencePrompt(request);
-        return callGroqAPI(prompt, 800);
+    @Cacheable(value = "ai-bullets", keyGenerator = "aiCacheKeyGenerator", sync = true)
+    public CompletableFuture<AIResponse> enhanceWorkExperience(AIRequest request) {
+        String prompt = buildWorkExperiencePrompt(withinBudget(request));
+        return callGroqAPI(AIPriority.current(), "enhanceWorkExperience", prompt, BULLETS_OUTPUT_TOKENS,
+                content -> jsonArraySize(content) >= MIN_BULLETS).toFuture();
+    }
+
+    /**
+     * Enhance several work experiences in one upstream call.
+     * Each item's experienceId is its id in the structured output; the
+     * result maps each returned id to its bullet points. Items the model
+     * left out are missing from the map. The prompt carries the same inputs
+     * as the single-item prompt, so their answers can share a cache entry.
+     */
+    public CompletableFuture<BatchBullets> enhanceWorkExperienceBatch(String jobDescription,
+            List<AIRequest.WorkExperienceItem> items, int expectedOutputTokens) {
+        String prompt = buildWorkExperienceBatchPrompt(jobDescription, items);
+        return callGroqAPI(AIPriority.current(), "enhanceWorkExperienceBatch", prompt, expectedOutputTokens,
+                content -> parseBatchBullets(content) != null)
+                .map(response -> {
+                    Map<String, List<String>> bullets = parseBatchBullets(response.getContent());
+                    if (bullets == null) {
+                        throw new RuntimeException("Failed to parse batch work experience response");
+                    }
+                    return new BatchBullets(response.getModel(), bullets);
+                })
+                .toFuture();
+    }
+
+    /**
+     * Stream an enhanced resume summary token by token.
+     * The completed text is cached under the same rule enhanceSummary accepts answers by.
+     */
+    public Flux<String> streamSummary(AIRequest request) {
+        return streamWithCache("ai-summary", "enhanceSummary", request,
+                buildSummaryPrompt(withinBudget(request)), SUMMARY_OUTPUT_TOKENS, AIService::isUsableSummary);
+    }
+
+    /**
+     * Stream enhanced work experience bullet points token by token.
+     * The completed text is cached under the same rule enhanceWorkExperience accepts answers by.
+     */
+    public Flux<String> streamWorkExperience(AIRequest request) {
+        return streamWithCache("ai-bullets", "enhanceWorkExperience", request,
+                buildWorkExperiencePrompt(withinBudget(request)), BULLETS_OUTPUT_TOKENS,
+                content -> jsonArraySize(content) >= MIN_BULLETS);
+    }
+
+    /**
+     * Analyze job match and provide skill gap analysis.
+     * In hybrid mode the local score acts as a pre-filter: resumes that score
+     * below the threshold are answered locally without an LLM call.
+     */
+    @Cacheable(value = "ai-job-match", keyGenerator = "aiCacheKeyGenerator", sync = true)
+    public CompletableFuture<JobMatchAnalysis> analyzeJobMatch(AIRequest request) {
+        AIPriority lane = AIPriority.current();
+        JobMatchAnalysis local = analyzeJobMatchLocally(request);
+        if (MODE_HYBRID.equals(resolveMode(request)) && local.getMatchScore() < prefilterThreshold) {
+            return CompletableFuture.completedFuture(local);
+        }
+
+        return nearDuplicateCache.lookup("ai-job-match", "analyzeJobMatch", request).thenCompose(hit -> {
+            if (hit instanceof JobMatchAnalysis analysis) {
+                return CompletableFuture.completedFuture(analysis);
+            }
+            String prompt = buildJobMatchPrompt(withinBudget(request));
+            return callGroqAPI(lane, "analyzeJobMatch", prompt, JOB_MATCH_OUTPUT_TOKENS,
+                    content -> parseJobMatch(content) != null)
+                    .map(response -> {
+                        JobMatchAnalysis analysis = parseJobMatch(response.getContent());
+                        return analysis != null ? analysis : local;
+                    })
+                    .doOnNext(analysis -> nearDuplicateCache.register("ai-job-match", "analyzeJobMatch", request))
+                    .toFuture();
+        });
     }
 
     /**
-     * Analyze job match and provide skill gap analysis
+     * Score the job match with the in-process engine only
      */
-    @Cacheable(value = "ai-job-match", key = "#request.hashCode()")
-    public JobMatchAnalysis analyzeJobMatch(AIRequest request) {
-        String prompt = buildJobMatchPrompt(request);
-        AIResponse response = callGroqAPI(prompt, 1000);
+    public JobMatchAnalysis analyzeJobMatchLocally(AIRequest request) {
+        return jobMatchScorer.analyze(request.getResumeData(), request.getJobDescription());
+    }
 
+    /**
+     * Suggest skills from the job description with the local skill index only.
+     * Returns the detected skills that are not already listed, as a JSON array.
+     */
+    public AIResponse suggestSkillsLocally(AIRequest request) {
+        long start = System.currentTimeMillis();
+        Set<String> suggestions = new LinkedHashSet<>(skillDictionary.extract(request.getJobDescription()));
+        suggestions.removeAll(skillDictionary.extract(request.getSkills()));
         try {
-            JsonNode jsonNode = objectMapper.readTree(response.getContent());
-            return JobMatchAnalysis.builder()
-                    .matchScore(jsonNode.get("matchScore").asInt())
-                    .missingSkills(objectMapper.convertValue(jsonNode.get("missingSkills"), List.class))
-                    .strengths(objectMapper.convertValue(jsonNode.get("strengths"), List.class))
-                    .suggestions(objectMapper.convertValue(jsonNode.get("suggestions"), List.class))
+            return AIResponse.builder()
+                    .content(objectMapper.writeValueAsString(suggestions))
+                    .model(MODE_LOCAL)
+                    .responseTime(System.currentTimeMillis() - start)
                     .build();
         } catch (Exception e) {
-            // Fallback response
-            return JobMatchAnalysis.builder()
-                    .matchScore(75)
-                    .missingSkills(List.of("Communication", "Leadership"))
-                    .strengths(List.of("Professional experience matches job requirements"))
-                    .suggestions(List.of("Consider adding more specific technical skills"))
-                    .build();
+            throw new RuntimeException("Failed to serialize skill suggestions", e);
         }
     }
 
+    /**
+     * Whether the request should be answered by local engines only
+     */
+    public boolean isLocalMode(AIRequest request) {
+        return MODE_LOCAL.equals(resolveMode(request));
+    }
+
+    private String resolveMode(AIRequest request) {
+        return cacheKeyGenerator.resolveMode(request.getMode());
+    }
+
     /**
      * Suggest skills based on job description
      */
-    @Cacheable(value = "ai-skills", key = "#request.hashCode()")
-    public AIResponse suggestSkills(AIRequest request) {
-        String prompt = buildSkillsPrompt(request);
-        return callGroqAPI(prompt, 400);
+    @Cacheable(value = "ai-skills", keyGenerator = "aiCacheKeyGenerator", sync = true)
+    public CompletableFuture<AIResponse> suggestSkills(AIRequest request) {
+        AIPriority lane = AIPriority.current();
+        return nearDuplicateCache.lookup("ai-skills", "suggestSkills", request).thenCompose(hit -> {
+            if (hit instanceof AIResponse response) {
+                return CompletableFuture.completedFuture(response);
+            }
+            String prompt = buildSkillsPrompt(withinBudget(request));
+            return callGroqAPI(lane, "suggestSkills", prompt, SKILLS_OUTPUT_TOKENS,
+                            content -> jsonArraySize(content) > 0)
+                    .doOnNext(response -> nearDuplicateCache.register("ai-skills", "suggestSkills", request))
+                    .toFuture();
+        });
     }
 
     /**
-     * Call Groq API with the given prompt
+     * Parse the job match JSON returned by the model; null when it is missing or malformed
      */
-    private AIResponse callGroqAPI(String prompt, int maxTokens) {
+    private JobMatchAnalysis parseJobMatch(String content) {
         try {
-            Map<String, Object> requestBody = Map.of(
-                    "model", model,
-                    "messages", List.of(
-                            Map.of("role", "system", "content",
-                                    "You are a professional resume writer and career advisor."),
-                            Map.of("role", "user", "content", prompt)),
-                    "max_tokens", maxTokens,
-                    "temperature", temperature);
-
-            String response = webClient.post()
-                    .uri("/chat/completions")
-                    .bodyValue(requestBody)
-                    .retrieve()
-                    .bodyToMono(String.class)
-                    .block();
-
-            JsonNode jsonNode = objectMapper.readTree(response);
-            String content = jsonNode.get("choices").get(0).get("message").get("content").asText();
-
-            return AIResponse.builder()
-                    .content(content)
-                    .model(model)
+            JsonNode jsonNode = objectMapper.readTree(jsonSlice(content, '{', '}'));
+            int matchScore = jsonNode.get("matchScore").asInt(-1);
+            if (matchScore < 0 || matchScore > 100) {
+                return null;
+            }
+            return JobMatchAnalysis.builder()
+                    .matchScore(matchScore)
+                    .missingSkills(objectMapper.convertValue(jsonNode.get("missingSkills"), STRING_LIST))
+                    .strengths(objectMapper.convertValue(jsonNode.get("strengths"), STRING_LIST))
+                    .suggestions(objectMapper.convertValue(jsonNode.get("suggestions"), STRING_LIST))
                     .build();
+        } catch (Exception e) {
+            return null;
+        }
+    }
 
+    /**
+     * Parse {"results": [{"id", "bullets"}]} into bullets by id; null when malformed
+     */
+    private Map<String, List<String>> parseBatchBullets(String content) {
+        try {
+            JsonNode results = objectMapper.readTree(jsonSlice(content, '{', '}')).get("results");
+            if (results == null || !results.isArray()) {
+                return null;
+            }
+            Map<String, List<String>> bullets = new LinkedHashMap<>();
+            for (JsonNode result : results) {
+                JsonNode id = result.get("id");
+                JsonNode items = result.get("bullets");
+                if (id == null || items == null || !items.isArray() || items.size() < MIN_BULLETS) {
+                    continue;
+                }
+                List<String> texts = new ArrayList<>(items.size());
+                items.forEach(item -> texts.add(item.asText()));
+                bullets.put(id.asText(), texts);
+            }
+            return bullets.isEmpty() ? null : bullets;
         } catch (Exception e) {
-            throw new RuntimeException("Failed to call Groq API", e);
+            return null;
         }
     }
 
+    /**
+     * Number of elements in the JSON array in the content, or -1 when there is none
+     */
+    private int jsonArraySize(String content) {
+        try {
+            JsonNode jsonNode = objectMapper.readTree(jsonSlice(content, '[', ']'));
+            return jsonNode.isArray() ? jsonNode.size() : -1;
+        } catch (Exception e) {
+            return -1;
+        }
+    }
+
+    /**
+     * A summary is prose of a sensible length, not JSON or an empty answer
+     */
+    private static boolean isUsableSummary(String content) {
+        String summary = content.strip();
+        return summary.length() >= MIN_SUMMARY_LENGTH && summary.length() <= MAX_SUMMARY_LENGTH
+                && !summary.startsWith("{") && !summary.startsWith("[") && summary.contains(".");
+    }
+
+    /**
+     * The outermost JSON value delimited by open and close, tolerating code fences and prose around it
+     */
+    private static String jsonSlice(String content, char open, char close) {
+        int start = content.indexOf(open);
+        int end = content.lastIndexOf(close);
+        return start >= 0 && end > start ? content.substring(start, end + 1) : content;
+    }
+
+    /**
+     * Call Groq API with the given prompt.
+     * max_tokens is sized from the expected output and what is left of the
+     * context window, and the model is chosen by the model router. An answer
+     * from the fast model that fails the acceptance check, or a fast model
+     * call that fails for any reason other than overload, is retried once on
+     * the large model. The lane decides how the call is scheduled against
+     * other Groq calls.
+     */
+    private Mono<AIResponse> callGroqAPI(AIPriority lane, String operation, String prompt, int expectedOutputTokens,
+            Predicate<String> acceptable) {
+        int promptTokens = tokenEstimator.estimateMessages(GroqPayloadCodec.SYSTEM_PROMPT, prompt);
+        int outputTokens = completionBudget(promptTokens, expectedOutputTokens);
+        String routed = modelRouter.route(operation, promptTokens);
+        Mono<AIResponse> call = callModel(lane, routed, operation, prompt, promptTokens, outputTokens);
+        if (modelRouter.isLargeModel(routed)) {
+            return call;
+        }
+
+        String largeModel = modelRouter.getLargeModel();
+        return call
+                .onErrorResume(e -> !(e instanceof ServiceUnavailableException), e -> {
+                    modelRouter.recordFallback(operation, "error");
+                    return callModel(lane, largeModel, operation, prompt, promptTokens, outputTokens);
+                })
+                .flatMap(response -> {
+                    if (largeModel.equals(response.getModel()) || acceptable.test(response.getContent())) {
+                        return Mono.just(response);
+                    }
+                    modelRouter.recordFallback(operation, "quality");
+                    return callModel(lane, largeModel, operation, prompt, promptTokens, outputTokens);
+                });
+    }
+
+    /**
+     * Call one model. Identical prompts already in flight share a single
+     * upstream call, and upstream calls go through the adaptive concurrency
+     * limiter in the given lane.
+     */
+    private Mono<AIResponse> callModel(AIPriority lane, String model, String operation, String prompt,
+            int promptTokens, int outputTokens) {
+        // Keyed by lane too, so an interactive call never waits on a queued background one
+        String key = lane.tag() + '|' + model + '|' + outputTokens + '|' + prompt;
+        return requestCoalescer.execute(key, () -> concurrencyLimiter.execute(lane,
+                () -> sendGroqRequest(model, operation, prompt, promptTokens, outputTokens)));
+    }
+
+    /**
+     * Send a chat completion request to Groq
+     */
+    private Mono<AIResponse> sendGroqRequest(String model, String operation, String prompt,
+            int estimatedPromptTokens, int maxTokens) {
+        byte[] requestBody = payloadCodec.writeChatRequest(model, prompt, maxTokens, false);
+
+        long start = System.currentTimeMillis();
+        return webClient.post()
+                .uri("/chat/completions")
+                .bodyValue(requestBody)
+                .retrieve()
+                .bodyToMono(byte[].class)
+                .map(response -> {
+                    try {
+                        GroqPayloadCodec.Completion completion = GroqPayloadCodec.readCompletion(response);
+                        tokenEstimator.calibrate(estimatedPromptTokens, completion.promptTokens());
+                        recordTokens(operation, "usage", completion.promptTokens(), completion.completionTokens());
+
+                        return AIResponse.builder()
+                                .content(completion.content())
+                                .model(model)
+                                .tokensUsed(completion.promptTokens() + completion.completionTokens())
+                                .responseTime(System.currentTimeMillis() - start)
+                                .build();
+                    } catch (Exception e) {
+                        throw new RuntimeException("Failed to parse Groq API response", e);
+                    }
+                })
+                .doOnSuccess(response -> modelRouter.recordLatency(model, operation, "success",
+                        System.currentTimeMillis() - start))
+                .doOnError(e -> modelRouter.recordLatency(model, operation, "error",
+                        System.currentTimeMillis() - start))
+                .onErrorMap(e -> toGroqException(e, "Failed to call Groq API"));
+    }
+
+    /**
+     * Expected output size, capped by the configured maximum and the room left in the context window
+     */
+    private int completionBudget(int promptTokens, int expectedOutputTokens) {
+        int available = contextWindow - promptTokens;
+        return Math.max(MIN_OUTPUT_TOKENS, Math.min(Math.min(expectedOutputTokens, maxTokens), available));
+    }
+
+    /**
+     * Trim the free-text inputs that can grow without bound to the per-field token budget.
+     * The job description is first reduced to its relevant sentences.
+     */
+    private AIRequest withinBudget(AIRequest request) {
+        String jobDescription = jobDescriptionCompressor.compress(request.getJobDescription());
+        return request.toBuilder()
+                .jobDescription(tokenEstimator.fitToBudget(jobDescription, maxInputTokens))
+                .resumeData(tokenEstimator.fitToBudget(request.getResumeData(), maxInputTokens))
+                .description(tokenEstimator.fitToBudget(request.getDescription(), maxInputTokens))
+                .workExperience(tokenEstimator.fitToBudget(request.getWorkExperience(), maxInputTokens))
+                .build();
+    }
+
+    /**
+     * Publish prompt and completion token counts; source is "usage" when reported by Groq, "estimate" otherwise
+     */
+    private void recordTokens(String operation, String source, int promptTokens, int completionTokens) {
+        meterRegistry.summary("ai.tokens.prompt", "operation", operation, "source", source).record(promptTokens);
+        meterRegistry.summary("ai.tokens.completion", "operation", operation, "source", source)
+                .record(completionTokens);
+    }
+
+    /**
+     * Serve a cached completion as a single chunk, or stream a new one from
+     * Groq. The model is routed as for the non-streaming call, and the
+     * concatenated text is cached once the stream completes only if it came
+     * from the large model or passes the acceptance check, the same rule
+     * under which the non-streaming call accepts an answer. A rejected fast
+     * model answer has already been shown, so it is only left uncached.
+     */
+    private Flux<String> streamWithCache(String cacheName, String operation, AIRequest request,
+            String prompt, int expectedOutputTokens, Predicate<String> acceptable) {
+        Cache cache = cacheManager.getCache(cacheName);
+        Object key = cacheKeyGenerator.keyFor(operation, request);
+        AIPriority lane = AIPriority.current();
+
+        // retrieve keeps the persistent tier's read off the request thread
+        CompletableFuture<?> lookup = cache != null ? cache.retrieve(key) : null;
+        Mono<AIResponse> cached = lookup == null ? Mono.empty() : Mono.fromFuture(lookup, true)
+                .ofType(AIResponse.class)
+                .onErrorResume(e -> Mono.empty());
+
+        return cached.map(AIResponse::getContent).flux().switchIfEmpty(Flux.defer(() -> {
+            StringBuilder content = new StringBuilder();
+            long start = System.currentTimeMillis();
+            int promptTokens = tokenEstimator.estimateMessages(GroqPayloadCodec.SYSTEM_PROMPT, prompt);
+            String model = modelRouter.route(operation, promptTokens);
+            return streamGroqAPI(lane, model, prompt, completionBudget(promptTokens, expectedOutputTokens))
+                    .doOnNext(content::append)
+                    .doOnComplete(() -> {
+                        modelRouter.recordLatency(model, operation, "success", System.currentTimeMillis() - start);
+                        recordTokens(operation, "estimate", promptTokens, tokenEstimator.estimate(content));
+                        boolean accepted = modelRouter.isLargeModel(model) || acceptable.test(content.toString());
+                        if (cache != null && accepted) {
+                            cache.put(key, AIResponse.builder()
+                                    .content(content.toString())
+                                    .model(model)
+                                    .responseTime(System.currentTimeMillis() - start)
+                                    .build());
+                        }
+                    });
+        }));
+    }
+
+    /**
+     * Call Groq API with stream enabled and emit the content deltas
+     */
+    private Flux<String> streamGroqAPI(AIPriority lane, String model, String prompt, int maxTokens) {
+        byte[] requestBody = payloadCodec.writeChatRequest(model, prompt, maxTokens, true);
+
+        return concurrencyLimiter.executeMany(lane, () -> webClient.post()
+                .uri("/chat/completions")
+                .accept(MediaType.TEXT_EVENT_STREAM)
+                .bodyValue(requestBody)
+                .retrieve()
+                .bodyToFlux(new ParameterizedTypeReference<ServerSentEvent<String>>() {
+                })
+                .mapNotNull(ServerSentEvent::data)
+                .takeWhile(data -> !"[DONE]".equals(data))
+                .concatMap(data -> {
+                    try {
+                        String token = GroqPayloadCodec.readStreamDelta(data);
+                        return token.isEmpty() ? Flux.<String>empty() : Flux.just(token);
+                    } catch (Exception e) {
+                        return Flux.<String>error(new RuntimeException("Failed to parse Groq stream chunk", e));
+                    }
+                })
+                .onErrorMap(e -> toGroqException(e, "Failed to stream from Groq API")));
+    }
+
+    /**
+     * Surface Groq throttling as ServiceUnavailableException, anything else as a generic failure
+     */
+    private static RuntimeException toGroqException(Throwable e, String message) {
+        if (e instanceof ServiceUnavailableException unavailable) {
+            return unavailable;
+        }
+        if (AdaptiveConcurrencyLimiter.isOverload(e)) {
+            return new ServiceUnavailableException("AI service is busy, please retry shortly", e);
+        }
+        return new RuntimeException(message, e);
+    }
+
     /**
      * Build prompt for summary enhancement
      */
     private String buildSummaryPrompt(AIRequest request) {
-        return String.format(
-                """
-                        Based on the following information, write a professional summary (2-3 sentences) that would be perfect for a resume.
-                        Focus on key achievements, skills, and career highlights. Make it engaging and professional.
-
-                        Personal Info: %s
-                        Work Experience: %s
-                        Skills: %s
-                        %s
-                        """,
+        return SUMMARY_TEMPLATE.render(
                 request.getPersonalInfo(),
                 request.getWorkExperience(),
                 request.getSkills(),
@@ -159,55 +651,65 @@ public class AIService {
      * Build prompt for work experience enhancement
      */
     private String buildWorkExperiencePrompt(AIRequest request) {
-        return String.format(
-                """
-                        Enhance the following work experience into 3-5 powerful bullet points that demonstrate impact and achievements.
-                        Use metrics where possible and start with strong action verbs. Return as JSON array only.
-
-                        Job Title: %s
-                        Company: %s
-                        Current Description: %s
-                        %s
-                        """,
+        return WORK_EXPERIENCE_TEMPLATE.render(
                 request.getJobTitle(),
                 request.getCompany(),
                 request.getDescription(),
+                request.getAchievements() != null ? "Achievements: " + request.getAchievements() : "",
                 request.getJobDescription() != null ? "Target Job Description: " + request.getJobDescription() : "");
     }
 
+    /**
+     * Build prompt for enhancing several work experiences at once
+     */
+    private String buildWorkExperienceBatchPrompt(String jobDescription, List<AIRequest.WorkExperienceItem> items) {
+        AIRequest budgeted = withinBudget(AIRequest.builder().jobDescription(jobDescription).build());
+        List<Map<String, String>> experiences = new ArrayList<>(items.size());
+        for (AIRequest.WorkExperienceItem item : items) {
+            Map<String, String> experience = new LinkedHashMap<>();
+            experience.put("id", item.getExperienceId());
+            experience.put("jobTitle", item.getJobTitle());
+            experience.put("company", item.getCompany());
+            experience.put("description", tokenEstimator.fitToBudget(item.getDescription(), maxInputTokens));
+            if (item.getAchievements() != null) {
+                experience.put("achievements", item.getAchievements());
+            }
+            experiences.add(experience);
+        }
+        try {
+            return WORK_EXPERIENCE_BATCH_TEMPLATE.render(
+                    budgeted.getJobDescription() != null
+                            ? "Target Job Description: " + budgeted.getJobDescription() : "",
+                    objectMapper.writeValueAsString(experiences));
+        } catch (Exception e) {
+            throw new RuntimeException("Failed to build batch work experience prompt", e);
+        }
+    }
+
     /**
      * Build prompt for job match analysis
      */
     private String buildJobMatchPrompt(AIRequest request) {
-        return String.format("""
-                Analyze the following resume against the job description and provide a detailed match analysis.
-                Return a JSON object with:
-                - matchScore: number (0-100)
-                - missingSkills: array of skills mentioned in job but missing from resume
-                - strengths: array of strong matching points
-                - suggestions: array of improvement suggestions
-
-                Resume: %s
-
-                Job Description: %s
-                """,
+        return JOB_MATCH_TEMPLATE.render(
                 request.getResumeData(),
-                request.getJobDescription());
+                request.getJobDescription(),
+                String.join(", ", skillDictionary.extract(request.getJobDescription())),
+                String.join(", ", skillDictionary.extract(request.getResumeData())));
     }
 
     /**
      * Build prompt for skills suggestion
      */
     private String buildSkillsPrompt(AIRequest request) {
-        return String.format("""
-                Current Skills: %s
-
-                Job Description: %s
-
-                Suggest 5-8 additional skills that would be valuable for this role but are not already listed.
-                Return as JSON array of skill names only.
-                """,
+        return SKILLS_TEMPLATE.render(
                 request.getSkills(),
-                request.getJobDescription());
+                request.getJobDescription(),
+                String.join(", ", skillDictionary.extract(request.getJobDescription())));
+    }
+
+    /**
+     * Bullet points by item id from one batch call, and the model that wrote them
+     */
+    public record BatchBullets(String model, Map<String, List<String>> bullets) {
     }
-}
\ No newline at end of file
+}
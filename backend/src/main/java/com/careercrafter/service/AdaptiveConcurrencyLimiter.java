@@ -0,0 +1,307 @@
+package com.careercrafter.service;
+
+import com.careercrafter.exception.ServiceUnavailableException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.MonoSink;
+
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Supplier;
+
+/**
+ * Adaptive (AIMD) concurrency limiter for outbound Groq calls.
+ * The limit grows by roughly one per round of successful calls and is cut
+ * multiplicatively when Groq answers 429, a call times out, or latency
+ * exceeds the configured threshold. Calls over the limit wait in a bounded
+ * FIFO queue with a timeout; calls that do not fit are rejected right away
+ * instead of adding to a retry storm.
+ *
+ * Calls run in an interactive or a background lane. Interactive calls may
+ * use the whole limit and are always granted before queued background
+ * calls. Background calls only fill idle capacity: they never start while
+ * an interactive call is queued, and a share of the limit is kept free for
+ * interactive calls at all times.
+ */
+@Component
+public class AdaptiveConcurrencyLimiter {
+
+    @Value("${ai.limiter.initial-limit:10}")
+    private int initialLimit;
+
+    @Value("${ai.limiter.min-limit:2}")
+    private int minLimit;
+
+    @Value("${ai.limiter.max-limit:50}")
+    private int maxLimit;
+
+    @Value("${ai.limiter.backoff-ratio:0.75}")
+    private double backoffRatio;
+
+    @Value("${ai.limiter.latency-threshold-ms:15000}")
+    private long latencyThresholdMs;
+
+    @Value("${ai.limiter.max-queue-size:100}")
+    private int maxQueueSize;
+
+    @Value("${ai.limiter.queue-timeout-ms:10000}")
+    private long queueTimeoutMs;
+
+    @Value("${ai.limiter.background-queue-timeout-ms:60000}")
+    private long backgroundQueueTimeoutMs;
+
+    @Value("${ai.limiter.interactive-reserve-ratio:0.25}")
+    private double interactiveReserveRatio;
+
+    private final Object lock = new Object();
+    private final Map<AIPriority, Deque<Waiter>> waiters = new EnumMap<>(AIPriority.class);
+    private double limit = -1;
+    private int inFlight;
+    private int backgroundInFlight;
+
+    private final Counter rejected;
+    private final Counter dropped;
+    private final Map<AIPriority, Timer> queueTime = new EnumMap<>(AIPriority.class);
+
+    public AdaptiveConcurrencyLimiter(MeterRegistry meterRegistry) {
+        Gauge.builder("ai.limiter.limit", this, AdaptiveConcurrencyLimiter::getLimit)
+                .description("Current adaptive concurrency limit for Groq calls")
+                .register(meterRegistry);
+        Gauge.builder("ai.limiter.in-flight", this, AdaptiveConcurrencyLimiter::getInFlight)
+                .description("Groq calls currently in flight")
+                .register(meterRegistry);
+        for (AIPriority lane : AIPriority.values()) {
+            waiters.put(lane, new ArrayDeque<>());
+            Gauge.builder("ai.limiter.queued", this, limiter -> limiter.getQueued(lane))
+                    .tag("lane", lane.tag())
+                    .description("Groq calls waiting for capacity")
+                    .register(meterRegistry);
+            queueTime.put(lane, Timer.builder("ai.limiter.queue-time")
+                    .tag("lane", lane.tag())
+                    .description("Time Groq calls waited for capacity")
+                    .publishPercentiles(0.5, 0.95, 0.99)
+                    .register(meterRegistry));
+        }
+        this.rejected = Counter.builder("ai.limiter.rejected")
+                .description("Groq calls rejected because the queue was full or the wait timed out")
+                .register(meterRegistry);
+        this.dropped = Counter.builder("ai.limiter.dropped")
+                .description("Groq calls that signalled overload (429, timeout or slow response)")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Run a single-value call in the given lane once capacity is available
+     */
+    public <T> Mono<T> execute(AIPriority lane, Supplier<Mono<T>> call) {
+        return acquire(lane).flatMap(permit -> call.get()
+                .doOnSuccess(value -> permit.release(false, true))
+                .doOnError(error -> permit.release(isOverload(error), false))
+                .doOnCancel(() -> permit.release(false, false)));
+    }
+
+    /**
+     * Run a streaming call in the given lane once capacity is available; the permit is held until the stream ends
+     */
+    public <T> Flux<T> executeMany(AIPriority lane, Supplier<Flux<T>> call) {
+        return acquire(lane).flatMapMany(permit -> call.get()
+                .doOnComplete(() -> permit.release(false, false))
+                .doOnError(error -> permit.release(isOverload(error), false))
+                .doOnCancel(() -> permit.release(false, false)));
+    }
+
+    public double getLimit() {
+        synchronized (lock) {
+            return currentLimit();
+        }
+    }
+
+    public int getInFlight() {
+        synchronized (lock) {
+            return inFlight;
+        }
+    }
+
+    public int getQueued(AIPriority lane) {
+        synchronized (lock) {
+            return waiters.get(lane).size();
+        }
+    }
+
+    private Mono<Permit> acquire(AIPriority lane) {
+        Mono<Permit> permit = Mono.create(sink -> {
+            Waiter waiter = null;
+            synchronized (lock) {
+                if (canStart(lane)) {
+                    start(lane);
+                } else if (waiters.get(lane).size() >= maxQueueSize) {
+                    rejected.increment();
+                    sink.error(new ServiceUnavailableException("AI service is at capacity, please retry shortly"));
+                    return;
+                } else {
+                    waiter = new Waiter(sink, lane);
+                    waiters.get(lane).addLast(waiter);
+                }
+            }
+            if (waiter == null) {
+                queueTime.get(lane).record(0, TimeUnit.NANOSECONDS);
+                sink.success(new Permit(lane));
+                return;
+            }
+            Waiter queued = waiter;
+            sink.onCancel(queued::cancel);
+        });
+
+        long timeoutMs = lane == AIPriority.BACKGROUND ? backgroundQueueTimeoutMs : queueTimeoutMs;
+        return permit.timeout(Duration.ofMillis(timeoutMs), Mono.defer(() -> {
+            rejected.increment();
+            return Mono.error(new ServiceUnavailableException("Timed out waiting for AI capacity"));
+        }));
+    }
+
+    private double currentLimit() {
+        if (limit < 0) {
+            limit = initialLimit;
+        }
+        return limit;
+    }
+
+    /**
+     * Interactive calls may use the whole limit. Background calls leave the
+     * interactive reserve free and never overtake a queued interactive call.
+     */
+    private boolean canStart(AIPriority lane) {
+        int current = (int) currentLimit();
+        if (inFlight >= current) {
+            return false;
+        }
+        return lane == AIPriority.INTERACTIVE
+                || (waiters.get(AIPriority.INTERACTIVE).isEmpty() && backgroundInFlight < backgroundCapacity(current));
+    }
+
+    /**
+     * Slots background calls may hold; at least one so background work always progresses
+     */
+    private int backgroundCapacity(int current) {
+        int reserved = (int) Math.ceil(current * interactiveReserveRatio);
+        return Math.max(1, current - reserved);
+    }
+
+    private void start(AIPriority lane) {
+        inFlight++;
+        if (lane == AIPriority.BACKGROUND) {
+            backgroundInFlight++;
+        }
+    }
+
+    /**
+     * Return a permit, adjust the limit from the outcome and wake waiters, interactive first
+     */
+    private void onRelease(AIPriority lane, long latencyMs, boolean overload, boolean sample) {
+        List<Waiter> granted = new ArrayList<>();
+        synchronized (lock) {
+            inFlight--;
+            if (lane == AIPriority.BACKGROUND) {
+                backgroundInFlight--;
+            }
+            double current = currentLimit();
+            if (overload || (sample && latencyMs > latencyThresholdMs)) {
+                dropped.increment();
+                limit = Math.max(minLimit, current * backoffRatio);
+            } else if (sample) {
+                limit = Math.min(maxLimit, current + 1.0 / current);
+            }
+            for (AIPriority next : AIPriority.values()) {
+                Deque<Waiter> queue = waiters.get(next);
+                while (!queue.isEmpty() && canStart(next)) {
+                    Waiter waiter = queue.pollFirst();
+                    if (waiter.granted.compareAndSet(false, true)) {
+                        start(next);
+                        granted.add(waiter);
+                    }
+                }
+            }
+        }
+        for (Waiter waiter : granted) {
+            queueTime.get(waiter.lane).record(System.nanoTime() - waiter.queuedAt, TimeUnit.NANOSECONDS);
+            waiter.sink.success(new Permit(waiter.lane));
+        }
+    }
+
+    /**
+     * 429 responses and timeouts mean Groq is saturated
+     */
+    static boolean isOverload(Throwable error) {
+        for (Throwable t = error; t != null; t = t.getCause()) {
+            if (t instanceof WebClientResponseException responseException
+                    && responseException.getStatusCode().isSameCodeAs(HttpStatus.TOO_MANY_REQUESTS)) {
+                return true;
+            }
+            if (t instanceof TimeoutException) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * A granted slot; releasing is idempotent so every exit path can call it
+     */
+    private final class Permit {
+        private final AIPriority lane;
+        private final long startedAt = System.currentTimeMillis();
+        private final AtomicBoolean released = new AtomicBoolean();
+
+        Permit(AIPriority lane) {
+            this.lane = lane;
+        }
+
+        void release(boolean overload, boolean sample) {
+            if (released.compareAndSet(false, true)) {
+                onRelease(lane, System.currentTimeMillis() - startedAt, overload, sample);
+            }
+        }
+    }
+
+    /**
+     * A caller waiting in the queue
+     */
+    private final class Waiter {
+        private final MonoSink<Permit> sink;
+        private final AIPriority lane;
+        private final long queuedAt = System.nanoTime();
+        private final AtomicBoolean granted = new AtomicBoolean();
+
+        Waiter(MonoSink<Permit> sink, AIPriority lane) {
+            this.sink = sink;
+            this.lane = lane;
+        }
+
+        void cancel() {
+            if (granted.compareAndSet(false, true)) {
+                synchronized (lock) {
+                    waiters.get(lane).remove(this);
+                }
+            } else {
+                // A slot was granted but the caller went away before receiving it
+                onRelease(lane, 0, false, false);
+            }
+        }
+    }
+}
@@ -0,0 +1,155 @@
+package com.careercrafter.service;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Immutable Aho-Corasick automaton over a fixed set of patterns.
+ * Trie edges are stored sparsely, sorted by character in flat arrays, so
+ * memory grows with the number of trie nodes rather than nodes times
+ * alphabet size. Scanning follows failure links on a missing edge, which
+ * keeps it a single pass that is linear in the text length, independent
+ * of the number of patterns.
+ */
+final class AhoCorasickMatcher {
+
+    /**
+     * A pattern occurrence; end is exclusive
+     */
+    record Match(int start, int end, int patternId) {
+    }
+
+    private static final int ROOT = 0;
+
+    // The edges of state s are edgeStart[s] until edgeStart[s + 1]
+    private final int[] edgeStart;
+    private final char[] edgeChar;
+    private final int[] edgeTarget;
+    private final int[] fail;
+    private final int[] output;
+    private final int[] outputLink;
+    private final int[] patternLength;
+
+    AhoCorasickMatcher(List<String> patterns) {
+        // Build the trie
+        List<TreeMap<Character, Integer>> children = new ArrayList<>();
+        List<Integer> outputs = new ArrayList<>();
+        children.add(new TreeMap<>());
+        outputs.add(-1);
+        patternLength = new int[patterns.size()];
+        for (int id = 0; id < patterns.size(); id++) {
+            String pattern = patterns.get(id);
+            patternLength[id] = pattern.length();
+            int state = ROOT;
+            for (int i = 0; i < pattern.length(); i++) {
+                char c = pattern.charAt(i);
+                Integer child = children.get(state).get(c);
+                if (child == null) {
+                    child = children.size();
+                    children.add(new TreeMap<>());
+                    outputs.add(-1);
+                    children.get(state).put(c, child);
+                }
+                state = child;
+            }
+            if (outputs.get(state) < 0) {
+                outputs.set(state, id);
+            }
+        }
+
+        // Flatten the edges, already sorted by character
+        int states = children.size();
+        edgeStart = new int[states + 1];
+        int edges = 0;
+        for (int s = 0; s < states; s++) {
+            edgeStart[s] = edges;
+            edges += children.get(s).size();
+        }
+        edgeStart[states] = edges;
+        edgeChar = new char[edges];
+        edgeTarget = new int[edges];
+        for (int s = 0; s < states; s++) {
+            int e = edgeStart[s];
+            for (Map.Entry<Character, Integer> edge : children.get(s).entrySet()) {
+                edgeChar[e] = edge.getKey();
+                edgeTarget[e] = edge.getValue();
+                e++;
+            }
+        }
+
+        // Failure and output links, breadth first
+        fail = new int[states];
+        output = new int[states];
+        outputLink = new int[states];
+        for (int s = 0; s < states; s++) {
+            output[s] = outputs.get(s);
+            outputLink[s] = -1;
+        }
+        ArrayDeque<Integer> queue = new ArrayDeque<>();
+        queue.add(ROOT);
+        while (!queue.isEmpty()) {
+            int state = queue.poll();
+            for (int e = edgeStart[state]; e < edgeStart[state + 1]; e++) {
+                int child = edgeTarget[e];
+                int childFail = state == ROOT ? ROOT : transition(fail[state], edgeChar[e]);
+                fail[child] = childFail;
+                outputLink[child] = output[childFail] >= 0 ? childFail : outputLink[childFail];
+                queue.add(child);
+            }
+        }
+    }
+
+    /**
+     * Every pattern occurrence in the text, in order of end position
+     */
+    List<Match> findAll(CharSequence text) {
+        List<Match> matches = new ArrayList<>();
+        int state = ROOT;
+        for (int i = 0; i < text.length(); i++) {
+            state = transition(state, text.charAt(i));
+            int s = output[state] >= 0 ? state : outputLink[state];
+            while (s > 0) {
+                int id = output[s];
+                matches.add(new Match(i + 1 - patternLength[id], i + 1, id));
+                s = outputLink[s];
+            }
+        }
+        return matches;
+    }
+
+    private int transition(int state, char c) {
+        while (true) {
+            int target = child(state, c);
+            if (target >= 0) {
+                return target;
+            }
+            if (state == ROOT) {
+                return ROOT;
+            }
+            state = fail[state];
+        }
+    }
+
+    /**
+     * Target of the trie edge for the character, or -1 when there is none
+     */
+    private int child(int state, char c) {
+        int low = edgeStart[state];
+        int high = edgeStart[state + 1] - 1;
+        while (low <= high) {
+            int mid = (low + high) >>> 1;
+            char midChar = edgeChar[mid];
+            if (midChar < c) {
+                low = mid + 1;
+            } else if (midChar > c) {
+                high = mid - 1;
+            } else {
+                return edgeTarget[mid];
+            }
+        }
+        return -1;
+    }
+}
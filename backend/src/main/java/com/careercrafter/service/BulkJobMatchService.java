@@ -0,0 +1,166 @@
+package com.careercrafter.service;
+
+import com.careercrafter.dto.AIRequest;
+import com.careercrafter.dto.BulkJobMatchRequest;
+import com.careercrafter.dto.BulkJobMatchResponse;
+import com.careercrafter.dto.JobMatchAnalysis;
+import com.careercrafter.dto.JobMatchResult;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.PriorityQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * Service for matching one resume against many job postings.
+ * Jobs are analyzed concurrently under a cap, each with its own timeout,
+ * and results are emitted in completion order so one slow job does not
+ * hold up the rest. Upstream calls run in the background AI lane. The
+ * ranking keeps only the best K results in a bounded min-heap.
+ */
+@Service
+public class BulkJobMatchService {
+
+    private static final Comparator<JobMatchResult> BY_SCORE =
+            Comparator.comparingInt(result -> result.getAnalysis().getMatchScore());
+
+    @Autowired
+    private AIService aiService;
+
+    @Value("${ai.bulk-match.max-concurrency:4}")
+    private int maxConcurrency;
+
+    @Value("${ai.bulk-match.max-jobs:50}")
+    private int maxJobs;
+
+    @Value("${ai.bulk-match.default-top-k:10}")
+    private int defaultTopK;
+
+    @Value("${ai.bulk-match.job-timeout-seconds:20}")
+    private long jobTimeoutSeconds;
+
+    /**
+     * Analyze every job posting and emit each result as soon as it finishes
+     */
+    public Flux<JobMatchResult> matchAll(BulkJobMatchRequest request) {
+        List<BulkJobMatchRequest.JobPosting> jobs = jobsOf(request);
+        if (jobs.isEmpty()) {
+            return Flux.error(new IllegalArgumentException("At least one job posting is required"));
+        }
+        if (jobs.size() > maxJobs) {
+            return Flux.error(new IllegalArgumentException("At most " + maxJobs + " job postings can be matched at once"));
+        }
+        return Flux.fromIterable(jobs)
+                .flatMap(job -> match(request, job), maxConcurrency);
+    }
+
+    /**
+     * Analyze every job posting and return the best matches, best first
+     */
+    public CompletableFuture<BulkJobMatchResponse> rank(BulkJobMatchRequest request) {
+        long start = System.currentTimeMillis();
+        Ranking ranking = newRanking(request);
+        return matchAll(request)
+                .doOnNext(ranking::add)
+                .then(Mono.fromCallable(() -> ranking.toResponse(System.currentTimeMillis() - start)))
+                .toFuture();
+    }
+
+    /**
+     * Empty ranking for the request's job postings
+     */
+    public Ranking newRanking(BulkJobMatchRequest request) {
+        return newRanking(request.getTopK(), jobsOf(request).size());
+    }
+
+    /**
+     * Empty ranking for the requested K, or the configured default when absent.
+     * K never exceeds the number of candidates, since it comes straight from the request body.
+     */
+    public Ranking newRanking(Integer topK, int candidates) {
+        int k = topK != null && topK > 0 ? topK : defaultTopK;
+        return new Ranking(Math.min(k, candidates));
+    }
+
+    private static List<BulkJobMatchRequest.JobPosting> jobsOf(BulkJobMatchRequest request) {
+        return request.getJobs() != null ? request.getJobs() : List.of();
+    }
+
+    private Mono<JobMatchResult> match(BulkJobMatchRequest request, BulkJobMatchRequest.JobPosting job) {
+        AIRequest jobRequest = AIRequest.builder()
+                .resumeData(request.getResumeData())
+                .jobDescription(job.getJobDescription())
+                .targetJobTitle(job.getTitle())
+                .targetCompany(job.getCompany())
+                .mode(request.getMode())
+                .build();
+
+        long start = System.currentTimeMillis();
+        Mono<JobMatchAnalysis> analysis = aiService.isLocalMode(jobRequest)
+                ? Mono.fromCallable(() -> aiService.analyzeJobMatchLocally(jobRequest)).subscribeOn(Schedulers.parallel())
+                // Cached futures are shared, so a timeout here must not cancel them
+                : Mono.fromFuture(() -> AIPriority.background(() -> aiService.analyzeJobMatch(jobRequest)), true);
+
+        return analysis
+                .timeout(Duration.ofSeconds(jobTimeoutSeconds))
+                .map(result -> result(job, start).analysis(result).build())
+                .onErrorResume(e -> Mono.just(result(job, start)
+                        .error(e instanceof TimeoutException ? "Timed out" : e.getMessage())
+                        .build()));
+    }
+
+    private static JobMatchResult.JobMatchResultBuilder result(BulkJobMatchRequest.JobPosting job, long start) {
+        return JobMatchResult.builder()
+                .jobId(job.getJobId())
+                .title(job.getTitle())
+                .company(job.getCompany())
+                .responseTime(System.currentTimeMillis() - start);
+    }
+
+    /**
+     * Top-K results by match score, kept in a bounded min-heap as results arrive
+     */
+    public static final class Ranking {
+        private final int k;
+        private final PriorityQueue<JobMatchResult> top;
+        private final List<JobMatchResult> failed = new ArrayList<>();
+        private int total;
+
+        Ranking(int k) {
+            this.k = k;
+            this.top = new PriorityQueue<>(k + 1, BY_SCORE);
+        }
+
+        public synchronized void add(JobMatchResult result) {
+            total++;
+            if (result.getAnalysis() == null) {
+                failed.add(result);
+                return;
+            }
+            top.offer(result);
+            if (top.size() > k) {
+                top.poll();
+            }
+        }
+
+        public synchronized BulkJobMatchResponse toResponse(long responseTime) {
+            List<JobMatchResult> ranking = new ArrayList<>(top);
+            ranking.sort(BY_SCORE.reversed());
+            return BulkJobMatchResponse.builder()
+                    .ranking(ranking)
+                    .failed(new ArrayList<>(failed))
+                    .total(total)
+                    .responseTime(responseTime)
+                    .build();
+        }
+    }
+}
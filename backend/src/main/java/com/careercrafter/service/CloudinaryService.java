@@ -42,7 +42,7 @@ public class CloudinaryService {
      */
     public String uploadPDF(byte[] pdfBytes, String resumeId) throws IOException {
         try {
-            Map<String, Object> uploadResult = cloudinary.uploader().upload(
+            Map<?, ?> uploadResult = cloudinary.uploader().upload(
                     new ByteArrayInputStream(pdfBytes),
                     ObjectUtils.asMap(
                             "public_id", "resumes/" + resumeId,
@@ -61,7 +61,7 @@ public class CloudinaryService {
      */
     public String uploadImage(byte[] imageBytes, String fileName) throws IOException {
         try {
-            Map<String, Object> uploadResult = cloudinary.uploader().upload(
+            Map<?, ?> uploadResult = cloudinary.uploader().upload(
                     new ByteArrayInputStream(imageBytes),
                     ObjectUtils.asMap(
                             "public_id", "images/" + fileName,
@@ -89,7 +89,7 @@ public class CloudinaryService {
      */
     public boolean deleteFile(String publicId, String resourceType) {
         try {
-            Map<String, Object> result = cloudinary.uploader().destroy(
+            Map<?, ?> result = cloudinary.uploader().destroy(
                     publicId,
                     ObjectUtils.asMap("resource_type", resourceType));
             return "ok".equals(result.get("result"));
@@ -101,6 +101,7 @@ public class CloudinaryService {
     /**
      * Get file information from Cloudinary
      */
+    @SuppressWarnings("unchecked") // the Cloudinary API returns a raw Map
     public Map<String, Object> getFileInfo(String publicId) {
         try {
             return cloudinary.api().resource(
@@ -0,0 +1,181 @@
+package com.careercrafter.service;
+
+import com.fasterxml.jackson.core.JsonEncoding;
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.StringWriter;
+import java.io.UncheckedIOException;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Allocation-light encoding and decoding of Groq chat completion payloads.
+ * Requests are written with a streaming JsonGenerator behind a precompiled
+ * JSON prefix (model, temperature and system message), so no Map tree is
+ * built and only the prompt needs escaping. Responses are read with a
+ * streaming JsonParser that pulls out choices[0].message.content and the
+ * usage counters without building a JsonNode tree.
+ */
+public final class GroqPayloadCodec {
+
+    public static final String SYSTEM_PROMPT = "You are a professional resume writer and career advisor.";
+
+    private static final JsonFactory JSON_FACTORY = new JsonFactory();
+
+    /**
+     * Content and token usage of a completion
+     */
+    public record Completion(String content, int promptTokens, int completionTokens) {
+    }
+
+    private final double temperature;
+    private final Map<String, String> prefixByModel = new ConcurrentHashMap<>();
+
+    public GroqPayloadCodec(double temperature) {
+        this.temperature = temperature;
+    }
+
+    /**
+     * Write a chat completion request body as UTF-8 JSON
+     */
+    public byte[] writeChatRequest(String model, String prompt, int maxTokens, boolean stream) {
+        String prefix = prefixByModel.computeIfAbsent(model, this::compilePrefix);
+        ByteArrayOutputStream out = new ByteArrayOutputStream(prefix.length() + prompt.length() + 64);
+        try (JsonGenerator generator = JSON_FACTORY.createGenerator(out, JsonEncoding.UTF8)) {
+            generator.writeRaw(prefix);
+            generator.writeString(prompt);
+            generator.writeRaw("}],\"max_tokens\":");
+            generator.writeRaw(Integer.toString(maxTokens));
+            generator.writeRaw(stream ? ",\"stream\":true}" : "}");
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to write Groq request", e);
+        }
+        return out.toByteArray();
+    }
+
+    /**
+     * Read choices[0].message.content and usage from a completion response
+     */
+    public static Completion readCompletion(byte[] body) throws IOException {
+        String content = null;
+        int promptTokens = 0;
+        int completionTokens = 0;
+        try (JsonParser parser = JSON_FACTORY.createParser(body)) {
+            if (parser.nextToken() != JsonToken.START_OBJECT) {
+                throw new IOException("Groq response is not a JSON object");
+            }
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String field = parser.currentName();
+                JsonToken value = parser.nextToken();
+                if ("choices".equals(field) && value == JsonToken.START_ARRAY) {
+                    content = readFirstChoiceContent(parser, "message");
+                } else if ("usage".equals(field) && value == JsonToken.START_OBJECT) {
+                    while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                        String usageField = parser.currentName();
+                        parser.nextToken();
+                        if ("prompt_tokens".equals(usageField)) {
+                            promptTokens = parser.getIntValue();
+                        } else if ("completion_tokens".equals(usageField)) {
+                            completionTokens = parser.getIntValue();
+                        } else {
+                            parser.skipChildren();
+                        }
+                    }
+                } else {
+                    parser.skipChildren();
+                }
+            }
+        }
+        if (content == null) {
+            throw new IOException("Groq response has no completion content");
+        }
+        return new Completion(content, promptTokens, completionTokens);
+    }
+
+    /**
+     * Read choices[0].delta.content from a streamed chunk; empty when the chunk carries no text
+     */
+    public static String readStreamDelta(String chunk) throws IOException {
+        try (JsonParser parser = JSON_FACTORY.createParser(chunk)) {
+            if (parser.nextToken() != JsonToken.START_OBJECT) {
+                throw new IOException("Groq stream chunk is not a JSON object");
+            }
+            String content = null;
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String field = parser.currentName();
+                JsonToken value = parser.nextToken();
+                if ("choices".equals(field) && value == JsonToken.START_ARRAY) {
+                    content = readFirstChoiceContent(parser, "delta");
+                } else {
+                    parser.skipChildren();
+                }
+            }
+            return content != null ? content : "";
+        }
+    }
+
+    /**
+     * With the parser on the choices START_ARRAY, read the content of the
+     * first choice and leave the parser on the matching END_ARRAY
+     */
+    private static String readFirstChoiceContent(JsonParser parser, String messageField) throws IOException {
+        String content = null;
+        JsonToken token = parser.nextToken();
+        if (token == JsonToken.START_OBJECT) {
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String field = parser.currentName();
+                JsonToken value = parser.nextToken();
+                if (messageField.equals(field) && value == JsonToken.START_OBJECT) {
+                    while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                        String messageKey = parser.currentName();
+                        JsonToken messageValue = parser.nextToken();
+                        if ("content".equals(messageKey) && messageValue == JsonToken.VALUE_STRING) {
+                            content = parser.getText();
+                        } else {
+                            parser.skipChildren();
+                        }
+                    }
+                } else {
+                    parser.skipChildren();
+                }
+            }
+            token = parser.nextToken();
+        }
+        while (token != JsonToken.END_ARRAY && token != null) {
+            parser.skipChildren();
+            token = parser.nextToken();
+        }
+        return content;
+    }
+
+    /**
+     * Everything up to the opening quote of the user message content, escaped once per model
+     */
+    private String compilePrefix(String model) {
+        StringWriter writer = new StringWriter();
+        try (JsonGenerator generator = JSON_FACTORY.createGenerator(writer)) {
+            // The object stays open on purpose; the prompt and the rest are appended per request
+            generator.disable(JsonGenerator.Feature.AUTO_CLOSE_JSON_CONTENT);
+            generator.writeStartObject();
+            generator.writeStringField("model", model);
+            generator.writeNumberField("temperature", temperature);
+            generator.writeArrayFieldStart("messages");
+            generator.writeStartObject();
+            generator.writeStringField("role", "system");
+            generator.writeStringField("content", SYSTEM_PROMPT);
+            generator.writeEndObject();
+            generator.writeStartObject();
+            generator.writeStringField("role", "user");
+            generator.writeFieldName("content");
+            generator.flush();
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to compile Groq request prefix", e);
+        }
+        return writer + ":";
+    }
+}
@@ -0,0 +1,166 @@
+package com.careercrafter.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Relevance-based compression of job descriptions before prompting.
+ * The posting is split into sentences, each sentence is scored locally for
+ * skills from the skill dictionary and requirement wording, and boilerplate
+ * (benefits, EEO statements, company history) is dropped. Boilerplate is
+ * recognized by whole phrases, so a requirement that merely contains a word
+ * like "vision" or "equal" is kept. The best sentences are kept in their
+ * original order under a token budget; postings that already fit the budget
+ * are passed through unchanged. Results are cached by a hash of the
+ * posting, so each posting is processed once.
+ */
+@Component
+public class JobDescriptionCompressor {
+
+    private static final Set<String> REQUIREMENT_CUES = Set.of(
+            "required", "requirements", "require", "requires", "must", "experience", "proficient",
+            "proficiency", "familiarity", "familiar", "knowledge", "expertise", "responsibilities",
+            "responsible", "qualifications", "degree", "years", "skills", "ability", "build", "design",
+            "develop", "implement", "maintain", "lead", "own", "deliver", "collaborate", "preferred");
+
+    /**
+     * Whole phrases, tokenized the same way as the sentences they are matched against
+     */
+    private static final List<String> BOILERPLATE_CUES = List.of(
+            "equal opportunity employer", "equal employment opportunity", "without regard to",
+            "regardless of race", "race color religion", "sexual orientation", "gender identity",
+            "protected veteran", "veteran status", "disability status", "reasonable accommodation",
+            "benefits include", "we offer", "health insurance", "dental insurance", "vision insurance",
+            "medical dental", "401 k", "401k", "paid time off", "pto", "paid holidays", "parental leave",
+            "stock options", "competitive salary", "salary range", "compensation range", "perks",
+            "wellness program", "our mission", "our culture", "our values", "founded in",
+            "headquartered in", "privacy policy", "privacy notice");
+
+    private static final double SKILL_WEIGHT = 3.0;
+    private static final double REQUIREMENT_WEIGHT = 1.5;
+    private static final int MAX_REQUIREMENT_CUES = 2;
+    private static final double BOILERPLATE_WEIGHT = 4.0;
+
+    @Autowired
+    private SkillDictionary skillDictionary;
+
+    @Autowired
+    private TokenEstimator tokenEstimator;
+
+    @Value("${ai.job-description.max-tokens:600}")
+    private int maxTokens;
+
+    private final Cache<String, String> compressed;
+    private final DistributionSummary ratio;
+
+    public JobDescriptionCompressor(MeterRegistry meterRegistry,
+            @Value("${ai.job-description.cache-size:1000}") int cacheSize) {
+        this.compressed = Caffeine.newBuilder()
+                .maximumSize(cacheSize)
+                .build();
+        this.ratio = DistributionSummary.builder("ai.job-description.compression-ratio")
+                .description("Share of job description tokens kept after compression")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Compressed form of the job description; null and blank input are returned as is
+     */
+    public String compress(String jobDescription) {
+        if (jobDescription == null || jobDescription.isBlank()
+                || tokenEstimator.estimate(jobDescription) <= maxTokens) {
+            return jobDescription;
+        }
+        return compressed.get(contentHash(jobDescription), hash -> doCompress(jobDescription));
+    }
+
+    private String doCompress(String jobDescription) {
+        List<String> sentences = TextTokenizer.sentences(jobDescription);
+        List<Scored> candidates = new ArrayList<>(sentences.size());
+        for (int i = 0; i < sentences.size(); i++) {
+            double score = score(sentences.get(i));
+            if (score >= 0) {
+                candidates.add(new Scored(i, score, tokenEstimator.estimate(sentences.get(i)) + 1));
+            }
+        }
+        candidates.sort(Comparator.comparingDouble(Scored::score).reversed()
+                .thenComparingInt(Scored::index));
+
+        boolean[] keep = new boolean[sentences.size()];
+        int used = 0;
+        int kept = 0;
+        for (Scored candidate : candidates) {
+            if (used + candidate.tokens() <= maxTokens) {
+                keep[candidate.index()] = true;
+                used += candidate.tokens();
+                kept++;
+            }
+        }
+        if (kept == 0) {
+            return tokenEstimator.fitToBudget(jobDescription, maxTokens);
+        }
+
+        List<String> result = new ArrayList<>(kept);
+        for (int i = 0; i < sentences.size(); i++) {
+            if (keep[i]) {
+                result.add(sentences.get(i));
+            }
+        }
+        String text = String.join("\n", result);
+        ratio.record(Math.min(1.0, (double) used / Math.max(1, tokenEstimator.estimate(jobDescription))));
+        return text;
+    }
+
+    /**
+     * Skills and requirement wording raise the score; boilerplate makes it negative
+     */
+    private double score(String sentence) {
+        List<String> tokens = TextTokenizer.tokenize(sentence);
+        int requirementCues = 0;
+        for (String token : tokens) {
+            if (REQUIREMENT_CUES.contains(token)) {
+                requirementCues++;
+            }
+        }
+        String normalized = " " + String.join(" ", tokens) + " ";
+        int boilerplateCues = 0;
+        for (String cue : BOILERPLATE_CUES) {
+            if (normalized.contains(" " + cue + " ")) {
+                boilerplateCues++;
+            }
+        }
+        int skills = skillDictionary.extract(sentence).size();
+        if (boilerplateCues > 0 && skills == 0) {
+            return -BOILERPLATE_WEIGHT * boilerplateCues;
+        }
+        return SKILL_WEIGHT * skills
+                + REQUIREMENT_WEIGHT * Math.min(MAX_REQUIREMENT_CUES, requirementCues)
+                - BOILERPLATE_WEIGHT * boilerplateCues;
+    }
+
+    static String contentHash(String text) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(digest.digest(text.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+
+    private record Scored(int index, double score, int tokens) {
+    }
+}
@@ -0,0 +1,133 @@
+package com.careercrafter.service;
+
+import com.careercrafter.dto.JobMatchAnalysis;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Deterministic in-process job match scoring.
+ * Job description terms are weighted by sublinear term frequency, skill
+ * phrases count double, and skills from the skill dictionary dominate the
+ * score. The result is the weighted share of the job description that the
+ * resume covers. Scoring depends only on its inputs, so the same pair
+ * scores the same on every node and over time. Parsed job description
+ * features are cached by content hash, so scoring many resumes against one
+ * posting parses the posting once.
+ */
+@Component
+public class JobMatchScorer {
+
+    private static final double SKILL_WEIGHT = 0.7;
+    private static final double TERM_WEIGHT = 0.3;
+    private static final int MAX_SUGGESTIONS = 3;
+
+    @Autowired
+    private SkillDictionary skillDictionary;
+
+    private final Cache<String, JobFeatures> features;
+
+    public JobMatchScorer(@Value("${ai.job-match.features-cache-size:1000}") int cacheSize) {
+        this.features = Caffeine.newBuilder()
+                .maximumSize(cacheSize)
+                .build();
+    }
+
+    /**
+     * Score a resume against a job description
+     */
+    public JobMatchAnalysis analyze(String resumeText, String jobDescription) {
+        return analyze(resumeText, prepare(jobDescription));
+    }
+
+    /**
+     * Skills and term frequencies of the job description, parsed once per distinct posting
+     */
+    public JobFeatures prepare(String jobDescription) {
+        String text = jobDescription != null ? jobDescription : "";
+        return features.get(JobDescriptionCompressor.contentHash(text), hash -> new JobFeatures(
+                skillDictionary.extract(text), termFrequencies(TextTokenizer.contentTokens(text))));
+    }
+
+    /**
+     * Score a resume against already parsed job description features
+     */
+    public JobMatchAnalysis analyze(String resumeText, JobFeatures job) {
+        Set<String> jobSkills = job.skills();
+        Set<String> resumeSkills = skillDictionary.extract(resumeText);
+        Set<String> resumeTerms = new HashSet<>(TextTokenizer.contentTokens(resumeText));
+
+        double termCoverage = termCoverage(job.terms(), resumeTerms);
+
+        List<String> strengths = new ArrayList<>();
+        List<String> missingSkills = new ArrayList<>();
+        for (String skill : jobSkills) {
+            if (resumeSkills.contains(skill)) {
+                strengths.add(skill);
+            } else {
+                missingSkills.add(skill);
+            }
+        }
+
+        double coverage = jobSkills.isEmpty()
+                ? termCoverage
+                : SKILL_WEIGHT * strengths.size() / jobSkills.size() + TERM_WEIGHT * termCoverage;
+
+        List<String> suggestions = new ArrayList<>();
+        for (String skill : missingSkills.subList(0, Math.min(MAX_SUGGESTIONS, missingSkills.size()))) {
+            suggestions.add("Highlight any experience with " + skill + ", which the job description asks for");
+        }
+
+        return JobMatchAnalysis.builder()
+                .matchScore((int) Math.round(Math.min(1.0, coverage) * 100))
+                .missingSkills(missingSkills)
+                .strengths(strengths)
+                .suggestions(suggestions)
+                .summary("Matched " + strengths.size() + " of " + jobSkills.size()
+                        + " skills found in the job description")
+                .build();
+    }
+
+    /**
+     * Weighted share of job description terms that also appear in the resume
+     */
+    private double termCoverage(Map<String, Integer> jobTerms, Set<String> resumeTerms) {
+        double total = 0;
+        double covered = 0;
+        for (Map.Entry<String, Integer> entry : jobTerms.entrySet()) {
+            String term = entry.getKey();
+            double weight = 1.0 + Math.log(entry.getValue());
+            if (skillDictionary.isSkillPhrase(term)) {
+                weight *= 2;
+            }
+            total += weight;
+            if (resumeTerms.contains(term)) {
+                covered += weight;
+            }
+        }
+        return total == 0 ? 0 : covered / total;
+    }
+
+    private static Map<String, Integer> termFrequencies(List<String> tokens) {
+        Map<String, Integer> frequencies = new HashMap<>();
+        for (String token : tokens) {
+            frequencies.merge(token, 1, Integer::sum);
+        }
+        return frequencies;
+    }
+
+    /**
+     * Parsed job description: dictionary skills and content term frequencies
+     */
+    public record JobFeatures(Set<String> skills, Map<String, Integer> terms) {
+    }
+}
@@ -0,0 +1,87 @@
+package com.careercrafter.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Set;
+
+/**
+ * Per-operation model policy for Groq calls.
+ * Operations listed as fast go to the small model while their prompt is
+ * short; everything else, and any fast answer that fails its parse or
+ * quality check, goes to the large model. Latency is recorded per model
+ * and operation so the policy can be tuned from the metrics.
+ */
+@Component
+public class ModelRouter {
+
+    @Value("${ai.groq.model}")
+    private String largeModel;
+
+    @Value("${ai.routing.fast-model:}")
+    private String fastModel;
+
+    @Value("${ai.routing.fast-operations:enhanceSummary,suggestSkills}")
+    private Set<String> fastOperations;
+
+    @Value("${ai.routing.fast-max-prompt-tokens:1500}")
+    private int fastMaxPromptTokens;
+
+    private final MeterRegistry meterRegistry;
+
+    public ModelRouter(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+
+    /**
+     * Model for the operation given the estimated prompt size
+     */
+    public String route(String operation, int promptTokens) {
+        if (isFastEnabled() && fastOperations.contains(operation) && promptTokens <= fastMaxPromptTokens) {
+            return fastModel;
+        }
+        return largeModel;
+    }
+
+    public String getLargeModel() {
+        return largeModel;
+    }
+
+    public boolean isLargeModel(String model) {
+        return largeModel.equals(model);
+    }
+
+    /**
+     * Record the latency of one call; outcome is "success" or "error"
+     */
+    public void recordLatency(String model, String operation, String outcome, long millis) {
+        Timer.builder("ai.model.latency")
+                .tag("model", model)
+                .tag("operation", operation)
+                .tag("outcome", outcome)
+                .description("Groq call latency per model and operation")
+                .publishPercentiles(0.5, 0.95)
+                .register(meterRegistry)
+                .record(Duration.ofMillis(millis));
+    }
+
+    /**
+     * Record a retry on the large model; reason is "quality" or "error"
+     */
+    public void recordFallback(String operation, String reason) {
+        Counter.builder("ai.model.fallback")
+                .tag("operation", operation)
+                .tag("reason", reason)
+                .description("Fast model answers retried on the large model")
+                .register(meterRegistry)
+                .increment();
+    }
+
+    private boolean isFastEnabled() {
+        return fastModel != null && !fastModel.isBlank() && !fastModel.equals(largeModel);
+    }
+}
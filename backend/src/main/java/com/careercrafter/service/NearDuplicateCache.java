@@ -0,0 +1,266 @@
+package com.careercrafter.service;
+
+import com.careercrafter.dto.AIRequest;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Near-duplicate lookup for AI caches keyed by a job description.
+ * Each cached result is indexed by a MinHash signature of the word
+ * shingles of its normalized job description, banded for LSH. When the
+ * exact cache key misses, a result whose other inputs are identical and
+ * whose job description has an estimated Jaccard similarity above the
+ * threshold is reused instead of calling Groq again. This catches the
+ * same posting copied with different whitespace, tracking text or a
+ * reordered footer.
+ */
+@Component
+public class NearDuplicateCache {
+
+    private static final int SHINGLE_SIZE = 3;
+    private static final int BANDS = 16;
+    private static final int ROWS = 8;
+    private static final int SIGNATURE_SIZE = BANDS * ROWS;
+    private static final long[] SEEDS = new SplittableRandom(0x5EEDL).longs(SIGNATURE_SIZE).toArray();
+
+    @Autowired
+    private CacheManager cacheManager;
+
+    @Autowired
+    private AICacheKeyGenerator cacheKeyGenerator;
+
+    @Value("${ai.cache.near-duplicate.threshold:0.8}")
+    private double threshold;
+
+    @Value("${ai.cache.near-duplicate.max-entries:10000}")
+    private int maxEntries;
+
+    private final MeterRegistry meterRegistry;
+    private final Map<String, Index> indexes = new ConcurrentHashMap<>();
+
+    public NearDuplicateCache(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+
+    /**
+     * Cached result of a near-duplicate request; completes with null when there is none
+     */
+    public CompletableFuture<Object> lookup(String cacheName, String operation, AIRequest request) {
+        Index index = index(cacheName);
+        Cache cache = cacheManager.getCache(cacheName);
+        long[] shingles = shingles(request.getJobDescription());
+        if (cache == null || shingles.length == 0) {
+            index.misses.increment();
+            return CompletableFuture.completedFuture(null);
+        }
+
+        // The request's own entry is skipped, so a refresh of a stale entry is not answered by itself
+        String exactKey = index.find(contextKey(operation, request), signature(shingles), threshold,
+                cacheKeyGenerator.keyFor(operation, request));
+        CompletableFuture<?> cached = exactKey != null ? cache.retrieve(exactKey) : null;
+        if (cached == null) {
+            index.misses.increment();
+            return CompletableFuture.completedFuture(null);
+        }
+        return cached.handle((value, error) -> {
+            if (error != null || value == null) {
+                // Evicted since it was indexed; the index entry ages out with the oldest entries
+                index.misses.increment();
+                return null;
+            }
+            index.hits.increment();
+            return value;
+        });
+    }
+
+    /**
+     * Index a result that has been stored in the cache under the request's exact key
+     */
+    public void register(String cacheName, String operation, AIRequest request) {
+        long[] shingles = shingles(request.getJobDescription());
+        if (shingles.length == 0) {
+            return;
+        }
+        index(cacheName).add(contextKey(operation, request), signature(shingles),
+                cacheKeyGenerator.keyFor(operation, request));
+    }
+
+    /**
+     * Key over every input except the job description; only results with the same context are reused
+     */
+    private String contextKey(String operation, AIRequest request) {
+        return cacheKeyGenerator.keyFor(operation, request.toBuilder().jobDescription(null).build());
+    }
+
+    private Index index(String cacheName) {
+        return indexes.computeIfAbsent(cacheName, name -> new Index(name, maxEntries, meterRegistry));
+    }
+
+    /**
+     * Hashes of the overlapping word shingles of the tokenized text
+     */
+    static long[] shingles(String text) {
+        List<String> tokens = TextTokenizer.tokenize(text);
+        if (tokens.isEmpty()) {
+            return new long[0];
+        }
+        int count = Math.max(1, tokens.size() - SHINGLE_SIZE + 1);
+        long[] shingles = new long[count];
+        for (int i = 0; i < count; i++) {
+            long hash = 0;
+            for (int j = i; j < Math.min(tokens.size(), i + SHINGLE_SIZE); j++) {
+                hash = mix(hash * 31 + tokens.get(j).hashCode());
+            }
+            shingles[i] = hash;
+        }
+        return shingles;
+    }
+
+    static int[] signature(long[] shingles) {
+        int[] signature = new int[SIGNATURE_SIZE];
+        for (int i = 0; i < SIGNATURE_SIZE; i++) {
+            int min = Integer.MAX_VALUE;
+            for (long shingle : shingles) {
+                int hash = (int) (mix(shingle ^ SEEDS[i]) >>> 33);
+                if (hash < min) {
+                    min = hash;
+                }
+            }
+            signature[i] = min;
+        }
+        return signature;
+    }
+
+    /**
+     * Share of equal signature positions, an unbiased estimate of the Jaccard similarity
+     */
+    static double similarity(int[] a, int[] b) {
+        int equal = 0;
+        for (int i = 0; i < SIGNATURE_SIZE; i++) {
+            if (a[i] == b[i]) {
+                equal++;
+            }
+        }
+        return (double) equal / SIGNATURE_SIZE;
+    }
+
+    /**
+     * SplitMix64 finalizer
+     */
+    private static long mix(long z) {
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+        return z ^ (z >>> 31);
+    }
+
+    private static long bandKey(String contextKey, int[] signature, int band) {
+        long hash = mix(contextKey.hashCode() * 31L + band);
+        for (int row = band * ROWS; row < (band + 1) * ROWS; row++) {
+            hash = mix(hash * 31 + signature[row]);
+        }
+        return hash;
+    }
+
+    /**
+     * LSH buckets for one cache, bounded with oldest-first eviction
+     */
+    private static final class Index {
+        private final int maxEntries;
+        private final Map<Long, List<Entry>> buckets = new HashMap<>();
+        private final Map<String, Entry> byExactKey = new HashMap<>();
+        private final Deque<Entry> order = new ArrayDeque<>();
+        private final Counter hits;
+        private final Counter misses;
+
+        Index(String cacheName, int maxEntries, MeterRegistry meterRegistry) {
+            this.maxEntries = maxEntries;
+            this.hits = Counter.builder("ai.cache.near-duplicate")
+                    .tag("cache", cacheName).tag("result", "hit")
+                    .description("Exact cache misses served from a near-duplicate job description")
+                    .register(meterRegistry);
+            this.misses = Counter.builder("ai.cache.near-duplicate")
+                    .tag("cache", cacheName).tag("result", "miss")
+                    .description("Exact cache misses with no near-duplicate job description")
+                    .register(meterRegistry);
+            Gauge.builder("ai.cache.near-hit-rate", this, Index::hitRate)
+                    .tag("cache", cacheName)
+                    .description("Share of exact cache misses answered by a near-duplicate")
+                    .register(meterRegistry);
+        }
+
+        synchronized String find(String contextKey, int[] signature, double threshold, String excludedKey) {
+            Entry best = null;
+            double bestSimilarity = threshold;
+            for (int band = 0; band < BANDS; band++) {
+                List<Entry> bucket = buckets.get(bandKey(contextKey, signature, band));
+                if (bucket == null) {
+                    continue;
+                }
+                for (Entry entry : bucket) {
+                    if (!entry.contextKey.equals(contextKey) || entry.exactKey.equals(excludedKey)) {
+                        continue;
+                    }
+                    double similarity = similarity(signature, entry.signature);
+                    if (similarity >= bestSimilarity) {
+                        best = entry;
+                        bestSimilarity = similarity;
+                    }
+                }
+            }
+            return best != null ? best.exactKey : null;
+        }
+
+        synchronized void add(String contextKey, int[] signature, String exactKey) {
+            if (byExactKey.containsKey(exactKey)) {
+                return;
+            }
+            Entry entry = new Entry(contextKey, signature, exactKey, new long[BANDS]);
+            for (int band = 0; band < BANDS; band++) {
+                entry.bandKeys[band] = bandKey(contextKey, signature, band);
+                buckets.computeIfAbsent(entry.bandKeys[band], k -> new ArrayList<>(1)).add(entry);
+            }
+            byExactKey.put(exactKey, entry);
+            order.addLast(entry);
+            while (order.size() > maxEntries) {
+                unlink(order.pollFirst());
+            }
+        }
+
+        private void unlink(Entry entry) {
+            byExactKey.remove(entry.exactKey);
+            for (long bandKey : entry.bandKeys) {
+                List<Entry> bucket = buckets.get(bandKey);
+                if (bucket != null) {
+                    bucket.remove(entry);
+                    if (bucket.isEmpty()) {
+                        buckets.remove(bandKey);
+                    }
+                }
+            }
+        }
+
+        double hitRate() {
+            double total = hits.count() + misses.count();
+            return total == 0 ? 0 : hits.count() / total;
+        }
+    }
+
+    private record Entry(String contextKey, int[] signature, String exactKey, long[] bandKeys) {
+    }
+}
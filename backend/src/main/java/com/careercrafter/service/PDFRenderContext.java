@@ -0,0 +1,58 @@
+package com.careercrafter.service;
+
+import com.itextpdf.io.font.FontProgram;
+import com.itextpdf.io.font.FontProgramFactory;
+import com.itextpdf.io.font.PdfEncodings;
+import com.itextpdf.io.font.constants.StandardFonts;
+import com.itextpdf.kernel.font.PdfFont;
+import com.itextpdf.kernel.font.PdfFontFactory;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * Font resources shared by every PDF.
+ * The font program of each template font family is parsed once at startup.
+ * A PdfFont belongs to one document, so each render wraps the shared
+ * program in its own. Standard fonts are not embedded and bold text is
+ * simulated, so a document carries a single font. Styles live in the
+ * compiled resume templates.
+ */
+@Component
+public class PDFRenderContext {
+
+    /**
+     * Font families available to templates
+     */
+    public enum FontFamily {
+        HELVETICA(StandardFonts.HELVETICA),
+        TIMES(StandardFonts.TIMES_ROMAN);
+
+        private final String name;
+
+        FontFamily(String name) {
+            this.name = name;
+        }
+    }
+
+    private final Map<FontFamily, FontProgram> programs = new EnumMap<>(FontFamily.class);
+
+    public PDFRenderContext() {
+        try {
+            for (FontFamily family : FontFamily.values()) {
+                programs.put(family, FontProgramFactory.createFont(family.name));
+            }
+        } catch (IOException e) {
+            throw new IllegalStateException("Failed to load PDF fonts", e);
+        }
+    }
+
+    /**
+     * Font of the family for one document, backed by the shared font program; never share it between documents
+     */
+    public PdfFont fontFor(FontFamily family) {
+        return PdfFontFactory.createFont(programs.get(family), PdfEncodings.WINANSI);
+    }
+}
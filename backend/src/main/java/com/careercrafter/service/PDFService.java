@@ -3,31 +3,60 @@ package com.careercrafter.service;
 import com.careercrafter.dto.PDFRequest;
 import com.careercrafter.dto.PDFResponse;
 import com.careercrafter.entity.Resume;
+import com.fasterxml.jackson.databind.MapperFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import com.itextpdf.kernel.events.PdfDocumentEvent;
 import com.itextpdf.kernel.pdf.PdfDocument;
+import com.itextpdf.kernel.pdf.PdfPage;
 import com.itextpdf.kernel.pdf.PdfWriter;
+import com.itextpdf.kernel.pdf.canvas.PdfCanvas;
+import com.itextpdf.kernel.pdf.xobject.PdfFormXObject;
 import com.itextpdf.layout.Document;
 import com.itextpdf.layout.element.Paragraph;
 import com.itextpdf.layout.element.Text;
-import com.itextpdf.layout.property.TextAlignment;
-import com.itextpdf.layout.property.VerticalAlignment;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
 
 import java.io.ByteArrayOutputStream;
 import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.security.DigestOutputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
 import java.time.LocalDateTime;
-import java.time.format.DateTimeFormatter;
-import java.util.Base64;
+import java.util.HexFormat;
 
 /**
  * PDF Service for generating professional resumes
+ * Layouts come from templates compiled at startup and font programs from
+ * the shared render context.
  */
 @Service
 public class PDFService {
 
+    /**
+     * Part of every content hash; bump it whenever rendering output changes
+     */
+    public static final String RENDERER_VERSION = "3";
+
     @Autowired
     private CloudinaryService cloudinaryService;
 
+    private final PDFRenderContext renderContext;
+    private final PDFTemplateRegistry templateRegistry;
+
+    // Sorted properties give the same bytes for equal requests
+    private final ObjectMapper canonicalMapper = JsonMapper.builder()
+            .enable(MapperFeature.SORT_PROPERTIES_ALPHABETICALLY)
+            .build();
+
+    public PDFService(PDFRenderContext renderContext, PDFTemplateRegistry templateRegistry) {
+        this.renderContext = renderContext;
+        this.templateRegistry = templateRegistry;
+    }
+
     /**
      * Generate PDF resume and upload to Cloudinary
      */
@@ -51,46 +80,97 @@ public class PDFService {
         }
     }
 
+    /**
+     * SHA-256 of the renderer version, the template and the canonical JSON
+     * of the request. Equal hashes render to the same PDF.
+     */
+    public String contentHash(PDFRequest request) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            digest.update((RENDERER_VERSION + '\n' + template(request).getId() + '\n')
+                    .getBytes(StandardCharsets.UTF_8));
+            // Serialized straight into the digest, without a String or byte[] copy
+            canonicalMapper.writeValue(new DigestOutputStream(OutputStream.nullOutputStream(), digest), request);
+            return HexFormat.of().formatHex(digest.digest());
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        } catch (IOException e) {
+            throw new IllegalStateException("Failed to hash PDF request", e);
+        }
+    }
+
     /**
      * Generate PDF resume
      */
     public byte[] generatePDF(PDFRequest request) throws IOException {
         ByteArrayOutputStream baos = new ByteArrayOutputStream();
-        PdfWriter writer = new PdfWriter(baos);
+        writePDF(request, baos);
+        return baos.toByteArray();
+    }
+
+    /**
+     * Render the PDF resume straight into the given stream.
+     * The stream is flushed but left open, so callers can write into a
+     * response body without holding the whole document in memory.
+     */
+    public void writePDF(PDFRequest request, OutputStream out) throws IOException {
+        ResumeTemplate template = template(request);
+        PdfWriter writer = new PdfWriter(out);
+        writer.setCloseStream(false);
         PdfDocument pdf = new PdfDocument(writer);
+        pdf.setDefaultPageSize(template.getPageSize());
+        if (template.hasDecoration()) {
+            addDecoration(pdf, template.decorationFor(pdf));
+        }
+
         Document document = new Document(pdf);
+        document.setMargins(template.getMarginTop(), template.getMarginRight(),
+                template.getMarginBottom(), template.getMarginLeft());
+        document.setFont(renderContext.fontFor(template.getFontFamily()));
 
         // Add header
-        addHeader(document, request);
-
-        // Add personal info
-        addPersonalInfo(document, request);
-
-        // Add summary
-        addSummary(document, request);
-
-        // Add work experience
-        addWorkExperience(document, request);
+        addHeader(document, request, template);
+
+        // Add sections in the template's order
+        for (ResumeTemplate.Section section : template.getSections()) {
+            switch (section) {
+                case SUMMARY -> addPersonalInfo(document, request, template);
+                case EXPERIENCE -> addWorkExperience(document, request, template);
+                case EDUCATION -> addEducation(document, request, template);
+                case SKILLS -> addSkills(document, request, template);
+            }
+        }
 
-        // Add education
-        addEducation(document, request);
+        document.close();
+        out.flush();
+    }
 
-        // Add skills
-        addSkills(document, request);
+    /**
+     * Template of the request; templateId wins over the older template field
+     */
+    private ResumeTemplate template(PDFRequest request) {
+        return templateRegistry.get(request.getTemplateId() != null ? request.getTemplateId() : request.getTemplate());
+    }
 
-        document.close();
-        return baos.toByteArray();
+    /**
+     * Draw the template's page decoration, shared by every page, under each page's content
+     */
+    private static void addDecoration(PdfDocument pdf, PdfFormXObject decoration) {
+        pdf.addEventHandler(PdfDocumentEvent.START_PAGE, event -> {
+            PdfPage page = ((PdfDocumentEvent) event).getPage();
+            new PdfCanvas(page.newContentStreamBefore(), page.getResources(), pdf)
+                    .addXObjectAt(decoration, 0, 0);
+        });
     }
 
     /**
      * Add header section
      */
-    private void addHeader(Document document, PDFRequest request) {
+    private void addHeader(Document document, PDFRequest request, ResumeTemplate template) {
         Paragraph header = new Paragraph();
         header.add(new Text(request.getPersonalInfo().getFullName())
-                .setFontSize(24)
                 .setBold());
-        header.setTextAlignment(TextAlignment.CENTER);
+        header.addStyle(template.getName());
         document.add(header);
 
         // Contact info
@@ -98,34 +178,28 @@ public class PDFService {
         contact.add(new Text(request.getPersonalInfo().getEmail() + " | " +
                 request.getPersonalInfo().getPhone() + " | " +
                 request.getPersonalInfo().getLocation()));
-        contact.setTextAlignment(TextAlignment.CENTER);
+        contact.addStyle(template.getContact());
         document.add(contact);
     }
 
     /**
      * Add personal information section
      */
-    private void addPersonalInfo(Document document, PDFRequest request) {
+    private void addPersonalInfo(Document document, PDFRequest request, ResumeTemplate template) {
         if (request.getPersonalInfo().getSummary() != null && !request.getPersonalInfo().getSummary().isEmpty()) {
-            document.add(new Paragraph("PROFESSIONAL SUMMARY")
-                    .setFontSize(16)
-                    .setBold()
-                    .setMarginTop(20));
+            document.add(sectionTitle("PROFESSIONAL SUMMARY", template));
 
             document.add(new Paragraph(request.getPersonalInfo().getSummary())
-                    .setMarginBottom(15));
+                    .addStyle(template.getParagraph()));
         }
     }
 
     /**
      * Add work experience section
      */
-    private void addWorkExperience(Document document, PDFRequest request) {
+    private void addWorkExperience(Document document, PDFRequest request, ResumeTemplate template) {
         if (request.getWorkExperience() != null && !request.getWorkExperience().isEmpty()) {
-            document.add(new Paragraph("PROFESSIONAL EXPERIENCE")
-                    .setFontSize(16)
-                    .setBold()
-                    .setMarginTop(20));
+            document.add(sectionTitle("PROFESSIONAL EXPERIENCE", template));
 
             request.getWorkExperience().forEach(exp -> {
                 // Job title and company
@@ -138,7 +212,7 @@ public class PDFService {
 
                 // Description
                 if (exp.getDescription() != null && !exp.getDescription().isEmpty()) {
-                    document.add(new Paragraph(exp.getDescription()).setMarginBottom(10));
+                    document.add(new Paragraph(exp.getDescription()).addStyle(template.getEntrySpacer()));
                 }
 
                 // Achievements
@@ -148,7 +222,7 @@ public class PDFService {
                     });
                 }
 
-                document.add(new Paragraph("").setMarginBottom(10));
+                document.add(new Paragraph("").addStyle(template.getEntrySpacer()));
             });
         }
     }
@@ -156,12 +230,9 @@ public class PDFService {
     /**
      * Add education section
      */
-    private void addEducation(Document document, PDFRequest request) {
+    private void addEducation(Document document, PDFRequest request, ResumeTemplate template) {
         if (request.getEducation() != null && !request.getEducation().isEmpty()) {
-            document.add(new Paragraph("EDUCATION")
-                    .setFontSize(16)
-                    .setBold()
-                    .setMarginTop(20));
+            document.add(sectionTitle("EDUCATION", template));
 
             request.getEducation().forEach(edu -> {
                 Paragraph eduHeader = new Paragraph();
@@ -182,7 +253,7 @@ public class PDFService {
                     });
                 }
 
-                document.add(new Paragraph("").setMarginBottom(10));
+                document.add(new Paragraph("").addStyle(template.getEntrySpacer()));
             });
         }
     }
@@ -190,12 +261,9 @@ public class PDFService {
     /**
      * Add skills section
      */
-    private void addSkills(Document document, PDFRequest request) {
+    private void addSkills(Document document, PDFRequest request, ResumeTemplate template) {
         if (request.getSkills() != null && !request.getSkills().isEmpty()) {
-            document.add(new Paragraph("SKILLS")
-                    .setFontSize(16)
-                    .setBold()
-                    .setMarginTop(20));
+            document.add(sectionTitle("SKILLS", template));
 
             StringBuilder skillsText = new StringBuilder();
             request.getSkills().forEach(skill -> {
@@ -211,6 +279,12 @@ public class PDFService {
         }
     }
 
+    private Paragraph sectionTitle(String title, ResumeTemplate template) {
+        return new Paragraph(title)
+                .setBold()
+                .addStyle(template.getSectionTitle());
+    }
+
     /**
      * Format date range for display
      */
@@ -0,0 +1,102 @@
+package com.careercrafter.service;
+
+import com.itextpdf.kernel.colors.Color;
+import com.itextpdf.kernel.colors.DeviceRgb;
+import com.itextpdf.layout.Style;
+import com.itextpdf.layout.borders.SolidBorder;
+import com.itextpdf.layout.properties.TextAlignment;
+import org.springframework.stereotype.Component;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Resume templates, compiled once at startup.
+ * "classic" is the original single-column layout and the default for
+ * requests without a known template id.
+ */
+@Component
+public class PDFTemplateRegistry {
+
+    public static final String DEFAULT_TEMPLATE = "classic";
+
+    private static final float PAGE_WIDTH = 595;
+    private static final float PAGE_HEIGHT = 842;
+
+    private final Map<String, ResumeTemplate> templates = new LinkedHashMap<>();
+
+    public PDFTemplateRegistry() {
+        register(classic());
+        register(modern());
+        register(elegant());
+    }
+
+    /**
+     * Template for the id, or the default template when the id is missing or unknown
+     */
+    public ResumeTemplate get(String templateId) {
+        ResumeTemplate template = templateId != null ? templates.get(templateId.toLowerCase(Locale.ROOT)) : null;
+        return template != null ? template : templates.get(DEFAULT_TEMPLATE);
+    }
+
+    public Set<String> getTemplateIds() {
+        return Collections.unmodifiableSet(templates.keySet());
+    }
+
+    private void register(ResumeTemplate template) {
+        templates.put(template.getId(), template);
+    }
+
+    private static ResumeTemplate classic() {
+        return ResumeTemplate.builder(DEFAULT_TEMPLATE)
+                .name(new Style().setFontSize(24).setTextAlignment(TextAlignment.CENTER))
+                .contact(new Style().setTextAlignment(TextAlignment.CENTER))
+                .sectionTitle(new Style().setFontSize(16).setMarginTop(20))
+                .paragraph(new Style().setMarginBottom(15))
+                .entrySpacer(new Style().setMarginBottom(10))
+                .build();
+    }
+
+    /**
+     * Header band and accent stripe, skills before experience
+     */
+    private static ResumeTemplate modern() {
+        Color accent = new DeviceRgb(31, 78, 121);
+        return ResumeTemplate.builder("modern")
+                .margins(30, 40, 40, 48)
+                .sections(ResumeTemplate.Section.SUMMARY, ResumeTemplate.Section.SKILLS,
+                        ResumeTemplate.Section.EXPERIENCE, ResumeTemplate.Section.EDUCATION)
+                .name(new Style().setFontSize(26).setFontColor(accent))
+                .contact(new Style().setFontSize(10).setFontColor(new DeviceRgb(90, 90, 90)).setMarginBottom(24))
+                .sectionTitle(new Style().setFontSize(13).setFontColor(accent).setMarginTop(16)
+                        .setBorderBottom(new SolidBorder(accent, 1)))
+                .paragraph(new Style().setMarginBottom(12))
+                .entrySpacer(new Style().setMarginBottom(8))
+                .fillRect(0.93f, 0.95f, 0.98f, 0, PAGE_HEIGHT - 96, PAGE_WIDTH, 96)
+                .fillRect(0.122f, 0.306f, 0.475f, 0, 0, 8, PAGE_HEIGHT)
+                .build();
+    }
+
+    /**
+     * Serif type, centered headings and ruled page edges
+     */
+    private static ResumeTemplate elegant() {
+        Color rule = new DeviceRgb(120, 120, 120);
+        return ResumeTemplate.builder("elegant")
+                .margins(60, 60, 54, 60)
+                .fontFamily(PDFRenderContext.FontFamily.TIMES)
+                .name(new Style().setFontSize(28).setTextAlignment(TextAlignment.CENTER))
+                .contact(new Style().setFontSize(10).setTextAlignment(TextAlignment.CENTER).setMarginBottom(10))
+                .sectionTitle(new Style().setFontSize(14).setTextAlignment(TextAlignment.CENTER).setMarginTop(18)
+                        .setBorderBottom(new SolidBorder(rule, 0.5f)))
+                .paragraph(new Style().setMarginBottom(14))
+                .entrySpacer(new Style().setMarginBottom(10))
+                .line(0.2f, 0.2f, 0.2f, 0.75f, 60, PAGE_HEIGHT - 36, PAGE_WIDTH - 60, PAGE_HEIGHT - 36)
+                .line(0.2f, 0.2f, 0.2f, 0.25f, 60, PAGE_HEIGHT - 39, PAGE_WIDTH - 60, PAGE_HEIGHT - 39)
+                .line(0.2f, 0.2f, 0.2f, 0.25f, 60, 36, PAGE_WIDTH - 60, 36)
+                .build();
+    }
+}
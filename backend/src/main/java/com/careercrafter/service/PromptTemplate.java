@@ -0,0 +1,66 @@
+package com.careercrafter.service;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Prompt template compiled once into its static segments.
+ * Rendering appends the segments and arguments into a single presized
+ * StringBuilder instead of re-parsing a format string on every call the
+ * way String.format does. Placeholders are written as %s.
+ */
+public final class PromptTemplate {
+
+    private static final String PLACEHOLDER = "%s";
+
+    private final String[] segments;
+    private final int staticLength;
+
+    private PromptTemplate(String[] segments) {
+        this.segments = segments;
+        int length = 0;
+        for (String segment : segments) {
+            length += segment.length();
+        }
+        this.staticLength = length;
+    }
+
+    public static PromptTemplate compile(String template) {
+        List<String> segments = new ArrayList<>();
+        int from = 0;
+        int index;
+        while ((index = template.indexOf(PLACEHOLDER, from)) >= 0) {
+            segments.add(template.substring(from, index));
+            from = index + PLACEHOLDER.length();
+        }
+        segments.add(template.substring(from));
+        return new PromptTemplate(segments.toArray(new String[0]));
+    }
+
+    /**
+     * Number of %s placeholders
+     */
+    public int arity() {
+        return segments.length - 1;
+    }
+
+    /**
+     * Render with the arguments in placeholder order; null renders as "null" like String.format
+     */
+    public String render(Object... args) {
+        if (args.length != arity()) {
+            throw new IllegalArgumentException("Expected " + arity() + " arguments but got " + args.length);
+        }
+        String[] values = new String[args.length];
+        int length = staticLength;
+        for (int i = 0; i < args.length; i++) {
+            values[i] = String.valueOf(args[i]);
+            length += values[i].length();
+        }
+        StringBuilder prompt = new StringBuilder(length);
+        for (int i = 0; i < values.length; i++) {
+            prompt.append(segments[i]).append(values[i]);
+        }
+        return prompt.append(segments[values.length]).toString();
+    }
+}
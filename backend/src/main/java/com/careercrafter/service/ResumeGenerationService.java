@@ -0,0 +1,156 @@
+package com.careercrafter.service;
+
+import com.careercrafter.dto.AIRequest;
+import com.careercrafter.dto.AIResponse;
+import com.careercrafter.dto.GeneratedResume;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Supplier;
+
+/**
+ * Service for generating a complete resume from structured data.
+ * The summary, the bullets for each work experience and the skill
+ * suggestions are independent AI calls, so they run concurrently under a
+ * per-request cap and an overall deadline, then merge into one response.
+ */
+@Service
+public class ResumeGenerationService {
+
+    private static final String SUMMARY = "summary";
+    private static final String SKILLS = "skills";
+
+    @Autowired
+    private AIService aiService;
+
+    @Value("${ai.generate.max-concurrency:4}")
+    private int maxConcurrency;
+
+    @Value("${ai.generate.deadline-seconds:25}")
+    private long deadlineSeconds;
+
+    /**
+     * Generate summary, bullets and skill suggestions in parallel
+     */
+    public CompletableFuture<GeneratedResume> generateResume(AIRequest request) {
+        long start = System.currentTimeMillis();
+        List<AIRequest.WorkExperienceItem> experiences = experiencesOf(request);
+
+        List<Mono<Part>> tasks = new ArrayList<>();
+        tasks.add(task(SUMMARY, -1, () -> aiService.enhanceSummary(request)));
+        for (int i = 0; i < experiences.size(); i++) {
+            AIRequest experienceRequest = experienceRequest(request, experiences.get(i));
+            tasks.add(task("experience", i, () -> aiService.enhanceWorkExperience(experienceRequest)));
+        }
+        if (request.getSkills() != null || request.getJobDescription() != null) {
+            tasks.add(task(SKILLS, -1, () -> aiService.suggestSkills(request)));
+        }
+
+        return Flux.fromIterable(tasks)
+                .flatMap(task -> task, maxConcurrency)
+                .take(Duration.ofSeconds(deadlineSeconds))
+                .collectList()
+                .map(parts -> assemble(parts, experiences, tasks.size(), start))
+                .toFuture();
+    }
+
+    /**
+     * Merge the finished parts; anything missing ran past the deadline
+     */
+    private GeneratedResume assemble(List<Part> parts, List<AIRequest.WorkExperienceItem> experiences,
+            int expectedParts, long start) {
+        List<String> errors = new ArrayList<>();
+        List<GeneratedResume.ExperienceBullets> bullets = new ArrayList<>();
+        for (AIRequest.WorkExperienceItem experience : experiences) {
+            bullets.add(GeneratedResume.ExperienceBullets.builder()
+                    .experienceId(experience.getExperienceId())
+                    .jobTitle(experience.getJobTitle())
+                    .company(experience.getCompany())
+                    .error("Timed out")
+                    .build());
+        }
+
+        GeneratedResume.GeneratedResumeBuilder result = GeneratedResume.builder();
+        for (Part part : parts) {
+            if (part.index() >= 0) {
+                GeneratedResume.ExperienceBullets item = bullets.get(part.index());
+                item.setBullets(part.content());
+                item.setError(part.error());
+            } else if (SUMMARY.equals(part.kind())) {
+                result.summary(part.content());
+            } else {
+                result.suggestedSkills(part.content());
+            }
+            if (part.error() != null) {
+                errors.add(part.kind() + ": " + part.error());
+            }
+        }
+        if (parts.size() < expectedParts) {
+            errors.add((expectedParts - parts.size()) + " part(s) did not finish within " + deadlineSeconds + "s");
+        }
+
+        return result
+                .workExperience(bullets)
+                .errors(errors)
+                .responseTime(System.currentTimeMillis() - start)
+                .build();
+    }
+
+    /**
+     * Wrap one AI call so a failure becomes part of the result instead of failing the whole resume
+     */
+    private static Mono<Part> task(String kind, int index, Supplier<CompletableFuture<AIResponse>> call) {
+        // Later tasks subscribe on whichever thread finished an earlier call, so the caller's lane is carried over
+        AIPriority lane = AIPriority.current();
+        // Cached futures are shared, so hitting the deadline must not cancel them
+        return Mono.defer(() -> Mono.fromFuture(AIPriority.runIn(lane, call), true))
+                .map(response -> new Part(kind, index, response.getContent(), null))
+                .onErrorResume(e -> Mono.just(new Part(kind, index, null, e.getMessage())));
+    }
+
+    /**
+     * Use the explicit experience list, or fall back to the single experience fields
+     */
+    static List<AIRequest.WorkExperienceItem> experiencesOf(AIRequest request) {
+        if (request.getWorkExperiences() != null && !request.getWorkExperiences().isEmpty()) {
+            return request.getWorkExperiences();
+        }
+        if (request.getJobTitle() != null || request.getDescription() != null) {
+            return List.of(AIRequest.WorkExperienceItem.builder()
+                    .experienceId(request.getExperienceId())
+                    .jobTitle(request.getJobTitle())
+                    .company(request.getCompany())
+                    .description(request.getDescription())
+                    .achievements(request.getAchievements())
+                    .build());
+        }
+        return List.of();
+    }
+
+    /**
+     * The single-experience request whose ai-bullets cache entry holds this experience's bullets
+     */
+    static AIRequest experienceRequest(AIRequest request, AIRequest.WorkExperienceItem experience) {
+        return AIRequest.builder()
+                .experienceId(experience.getExperienceId())
+                .jobTitle(experience.getJobTitle())
+                .company(experience.getCompany())
+                .description(experience.getDescription())
+                .achievements(experience.getAchievements())
+                .jobDescription(request.getJobDescription())
+                .build();
+    }
+
+    /**
+     * One finished AI call; index is the work experience position, or -1
+     */
+    private record Part(String kind, int index, String content, String error) {
+    }
+}
@@ -0,0 +1,157 @@
+package com.careercrafter.service;
+
+import com.careercrafter.dto.AIRequest;
+import com.careercrafter.dto.BulkJobMatchResponse;
+import com.careercrafter.dto.JobMatchAnalysis;
+import com.careercrafter.dto.JobMatchResult;
+import com.careercrafter.dto.ResumeRankingRequest;
+import com.careercrafter.entity.Education;
+import com.careercrafter.entity.PersonalInfo;
+import com.careercrafter.entity.Resume;
+import com.careercrafter.entity.Skills;
+import com.careercrafter.entity.WorkExperience;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * Service for ranking all of a user's resumes against one job description.
+ * The resume aggregates are loaded in a fixed number of queries, the job
+ * description is parsed once and its features are shared by every resume,
+ * and resumes are scored concurrently under the bulk match cap, with
+ * upstream calls in the background AI lane.
+ */
+@Service
+public class ResumeRankingService {
+
+    @Autowired
+    private ResumeService resumeService;
+
+    @Autowired
+    private AIService aiService;
+
+    @Autowired
+    private JobMatchScorer jobMatchScorer;
+
+    @Autowired
+    private BulkJobMatchService bulkJobMatchService;
+
+    @Value("${ai.bulk-match.max-concurrency:4}")
+    private int maxConcurrency;
+
+    @Value("${ai.bulk-match.job-timeout-seconds:20}")
+    private long timeoutSeconds;
+
+    /**
+     * Score every resume of the user and return the best matches, best first
+     */
+    public CompletableFuture<BulkJobMatchResponse> rank(String userId, ResumeRankingRequest request) {
+        long start = System.currentTimeMillis();
+        List<Candidate> candidates = new ArrayList<>();
+        for (Resume resume : resumeService.getUserResumesWithDetails(userId)) {
+            candidates.add(new Candidate(resume.getId(), resume.getTitle(), resumeText(resume)));
+        }
+
+        JobMatchScorer.JobFeatures job = jobMatchScorer.prepare(request.getJobDescription());
+        BulkJobMatchService.Ranking ranking = bulkJobMatchService.newRanking(request.getTopK(), candidates.size());
+        return Flux.fromIterable(candidates)
+                .flatMap(candidate -> score(request, job, candidate), maxConcurrency)
+                .doOnNext(ranking::add)
+                .then(Mono.fromCallable(() -> ranking.toResponse(System.currentTimeMillis() - start)))
+                .toFuture();
+    }
+
+    private Mono<JobMatchResult> score(ResumeRankingRequest request, JobMatchScorer.JobFeatures job,
+            Candidate candidate) {
+        AIRequest matchRequest = AIRequest.builder()
+                .resumeData(candidate.text())
+                .jobDescription(request.getJobDescription())
+                .targetJobTitle(request.getTargetJobTitle())
+                .targetCompany(request.getTargetCompany())
+                .mode(request.getMode())
+                .build();
+
+        long start = System.currentTimeMillis();
+        Mono<JobMatchAnalysis> analysis = aiService.isLocalMode(matchRequest)
+                ? Mono.fromCallable(() -> jobMatchScorer.analyze(candidate.text(), job)).subscribeOn(Schedulers.parallel())
+                // The local pre-filter in hybrid mode hits the features prepared above
+                : Mono.fromFuture(() -> AIPriority.background(() -> aiService.analyzeJobMatch(matchRequest)), true);
+
+        return analysis
+                .timeout(Duration.ofSeconds(timeoutSeconds))
+                .map(result -> result(candidate, start).analysis(result).build())
+                .onErrorResume(e -> Mono.just(result(candidate, start)
+                        .error(e instanceof TimeoutException ? "Timed out" : e.getMessage())
+                        .build()));
+    }
+
+    private static JobMatchResult.JobMatchResultBuilder result(Candidate candidate, long start) {
+        return JobMatchResult.builder()
+                .resumeId(candidate.resumeId())
+                .title(candidate.title())
+                .responseTime(System.currentTimeMillis() - start);
+    }
+
+    /**
+     * Plain-text form of the resume, in the order it appears on the page
+     */
+    static String resumeText(Resume resume) {
+        StringBuilder text = new StringBuilder();
+        PersonalInfo personalInfo = resume.getPersonalInfo();
+        if (personalInfo != null) {
+            appendLine(text, personalInfo.getSummary());
+        }
+        if (resume.getWorkExperience() != null) {
+            for (WorkExperience experience : resume.getWorkExperience()) {
+                appendLine(text, join(experience.getJobTitle(), experience.getCompany()));
+                appendLine(text, experience.getDescription());
+                if (experience.getAchievements() != null) {
+                    experience.getAchievements().forEach(achievement -> appendLine(text, achievement));
+                }
+            }
+        }
+        if (resume.getEducation() != null) {
+            for (Education education : resume.getEducation()) {
+                appendLine(text, join(education.getDegree(), education.getFieldOfStudy(), education.getInstitution()));
+            }
+        }
+        if (resume.getSkills() != null) {
+            List<String> skills = new ArrayList<>();
+            for (Skills skill : resume.getSkills()) {
+                if (skill.getName() != null) {
+                    skills.add(skill.getName());
+                }
+            }
+            appendLine(text, String.join(", ", skills));
+        }
+        return text.toString();
+    }
+
+    private static String join(String... parts) {
+        List<String> present = new ArrayList<>(parts.length);
+        for (String part : parts) {
+            if (part != null && !part.isBlank()) {
+                present.add(part);
+            }
+        }
+        return String.join(", ", present);
+    }
+
+    private static void appendLine(StringBuilder text, String line) {
+        if (line != null && !line.isBlank()) {
+            text.append(line).append('\n');
+        }
+    }
+
+    private record Candidate(String resumeId, String title, String text) {
+    }
+}
@@ -40,6 +40,9 @@ public class ResumeService {
     @Autowired
     private CloudinaryService cloudinaryService;
 
+    @Autowired
+    private SkillCooccurrenceModel skillCooccurrenceModel;
+
     /**
      * Create a new resume
      */
@@ -99,6 +102,22 @@ public class ResumeService {
         return mapToDetailedResponse(resume);
     }
 
+    /**
+     * Get all resumes for a user with all details, in four queries
+     * regardless of the number of resumes
+     */
+    @Transactional(readOnly = true)
+    public List<Resume> getUserResumesWithDetails(String userId) {
+        List<Resume> resumes = resumeRepository.findByUserIdWithWorkExperience(userId);
+        if (!resumes.isEmpty()) {
+            // Same persistence context, so these fill in the collections of the resumes above
+            resumeRepository.fetchEducation(resumes);
+            resumeRepository.fetchSkills(resumes);
+            resumeRepository.fetchWorkExperienceAchievements(resumes);
+        }
+        return resumes;
+    }
+
     /**
      * Update resume
      */
@@ -130,10 +149,14 @@ public class ResumeService {
         }
 
         resumeRepository.delete(resume);
+        skillCooccurrenceModel.removeResume(resumeId);
     }
 
     /**
-     * Generate PDF for resume
+     * Generate PDF for resume.
+     * When the content hash of the PDF request matches the latest version
+     * with a PDF, that version's PDF is returned without rendering,
+     * uploading or creating a new version.
      */
     public String generateResumePDF(String resumeId, String userId) {
         Resume resume = resumeRepository.findByIdWithDetails(resumeId)
@@ -143,6 +166,16 @@ public class ResumeService {
             throw new UnauthorizedException("Access denied");
         }
 
+        com.careercrafter.dto.PDFRequest pdfRequest = createPDFRequest(resume);
+        String contentHash = pdfService.contentHash(pdfRequest);
+
+        // Only the latest upload is current: every upload of a resume overwrites the same file
+        Optional<ResumeVersion> latest = resumeVersionRepository
+                .findFirstByResumeIdAndPdfUrlIsNotNullOrderByVersionNumberDesc(resumeId);
+        if (latest.isPresent() && contentHash.equals(latest.get().getContentHash())) {
+            return latest.get().getPdfUrl();
+        }
+
         // Create new version
         Integer nextVersion = resumeVersionRepository.getNextVersionNumber(resumeId);
         ResumeVersion version = new ResumeVersion();
@@ -151,10 +184,11 @@ public class ResumeService {
         version.setVersionNumber(nextVersion);
         version.setTitle("Version " + nextVersion);
         version.setIsActive(true);
+        version.setContentHash(contentHash);
 
         // Generate PDF and upload to Cloudinary
         try {
-            String pdfUrl = pdfService.generateAndUploadPDF(createPDFRequest(resume)).getPdfUrl();
+            String pdfUrl = pdfService.generateAndUploadPDF(pdfRequest).getPdfUrl();
             version.setPdfUrl(pdfUrl);
             version.setPublicShareUrl(cloudinaryService.generatePublicUrl(version.getId()));
         } catch (Exception e) {
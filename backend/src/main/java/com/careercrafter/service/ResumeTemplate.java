@@ -0,0 +1,218 @@
+package com.careercrafter.service;
+
+import com.itextpdf.kernel.geom.PageSize;
+import com.itextpdf.kernel.geom.Rectangle;
+import com.itextpdf.kernel.pdf.PdfDocument;
+import com.itextpdf.kernel.pdf.xobject.PdfFormXObject;
+import com.itextpdf.layout.Style;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * A resume layout compiled once into a reusable plan.
+ * The plan fixes the page size, margins, font family, section order and
+ * every style. Static page decorations are compiled to content stream
+ * bytes up front; each document wraps them in a single Form XObject that
+ * every page references, so rendering only fills in the data. Plans are
+ * immutable and shared by concurrent renders.
+ */
+public final class ResumeTemplate {
+
+    /**
+     * Resume sections below the header, in the order a template renders them
+     */
+    public enum Section {
+        SUMMARY,
+        EXPERIENCE,
+        EDUCATION,
+        SKILLS
+    }
+
+    private final String id;
+    private final PageSize pageSize;
+    private final float[] margins;
+    private final PDFRenderContext.FontFamily fontFamily;
+    private final List<Section> sections;
+    private final Style name;
+    private final Style contact;
+    private final Style sectionTitle;
+    private final Style paragraph;
+    private final Style entrySpacer;
+    private final byte[] decoration;
+
+    private ResumeTemplate(Builder builder) {
+        this.id = builder.id;
+        this.pageSize = builder.pageSize;
+        this.margins = builder.margins.clone();
+        this.fontFamily = builder.fontFamily;
+        this.sections = List.copyOf(builder.sections);
+        this.name = builder.name;
+        this.contact = builder.contact;
+        this.sectionTitle = builder.sectionTitle;
+        this.paragraph = builder.paragraph;
+        this.entrySpacer = builder.entrySpacer;
+        this.decoration = builder.decoration != null
+                ? builder.decoration.toString().getBytes(StandardCharsets.US_ASCII)
+                : null;
+    }
+
+    public static Builder builder(String id) {
+        return new Builder(id);
+    }
+
+    public String getId() {
+        return id;
+    }
+
+    public PageSize getPageSize() {
+        return pageSize;
+    }
+
+    public float getMarginTop() {
+        return margins[0];
+    }
+
+    public float getMarginRight() {
+        return margins[1];
+    }
+
+    public float getMarginBottom() {
+        return margins[2];
+    }
+
+    public float getMarginLeft() {
+        return margins[3];
+    }
+
+    public PDFRenderContext.FontFamily getFontFamily() {
+        return fontFamily;
+    }
+
+    public List<Section> getSections() {
+        return sections;
+    }
+
+    public Style getName() {
+        return name;
+    }
+
+    public Style getContact() {
+        return contact;
+    }
+
+    public Style getSectionTitle() {
+        return sectionTitle;
+    }
+
+    public Style getParagraph() {
+        return paragraph;
+    }
+
+    public Style getEntrySpacer() {
+        return entrySpacer;
+    }
+
+    public boolean hasDecoration() {
+        return decoration != null;
+    }
+
+    /**
+     * The page decoration as a Form XObject of the document; create it once per document
+     */
+    public PdfFormXObject decorationFor(PdfDocument pdf) {
+        PdfFormXObject xObject = new PdfFormXObject(new Rectangle(pageSize.getWidth(), pageSize.getHeight()));
+        xObject.getPdfObject().setData(decoration);
+        xObject.makeIndirect(pdf);
+        return xObject;
+    }
+
+    /**
+     * Builder for a template plan; decorations are drawn in page coordinates
+     */
+    public static final class Builder {
+        private final String id;
+        private PageSize pageSize = PageSize.A4;
+        private float[] margins = {36, 36, 36, 36};
+        private PDFRenderContext.FontFamily fontFamily = PDFRenderContext.FontFamily.HELVETICA;
+        private List<Section> sections = List.of(Section.values());
+        private Style name = new Style();
+        private Style contact = new Style();
+        private Style sectionTitle = new Style();
+        private Style paragraph = new Style();
+        private Style entrySpacer = new Style();
+        private StringBuilder decoration;
+
+        private Builder(String id) {
+            this.id = id;
+        }
+
+        public Builder margins(float top, float right, float bottom, float left) {
+            this.margins = new float[] {top, right, bottom, left};
+            return this;
+        }
+
+        public Builder fontFamily(PDFRenderContext.FontFamily fontFamily) {
+            this.fontFamily = fontFamily;
+            return this;
+        }
+
+        public Builder sections(Section... sections) {
+            this.sections = List.of(sections);
+            return this;
+        }
+
+        public Builder name(Style name) {
+            this.name = name;
+            return this;
+        }
+
+        public Builder contact(Style contact) {
+            this.contact = contact;
+            return this;
+        }
+
+        public Builder sectionTitle(Style sectionTitle) {
+            this.sectionTitle = sectionTitle;
+            return this;
+        }
+
+        public Builder paragraph(Style paragraph) {
+            this.paragraph = paragraph;
+            return this;
+        }
+
+        public Builder entrySpacer(Style entrySpacer) {
+            this.entrySpacer = entrySpacer;
+            return this;
+        }
+
+        /**
+         * Filled rectangle in RGB components between 0 and 1
+         */
+        public Builder fillRect(float r, float g, float b, float x, float y, float width, float height) {
+            operators("q %.3f %.3f %.3f rg %.2f %.2f %.2f %.2f re f Q\n", r, g, b, x, y, width, height);
+            return this;
+        }
+
+        /**
+         * Straight line in RGB components between 0 and 1
+         */
+        public Builder line(float r, float g, float b, float lineWidth, float x1, float y1, float x2, float y2) {
+            operators("q %.3f %.3f %.3f RG %.2f w %.2f %.2f m %.2f %.2f l S Q\n", r, g, b, lineWidth, x1, y1, x2, y2);
+            return this;
+        }
+
+        public ResumeTemplate build() {
+            return new ResumeTemplate(this);
+        }
+
+        private void operators(String format, Object... args) {
+            if (decoration == null) {
+                decoration = new StringBuilder();
+            }
+            decoration.append(String.format(Locale.ROOT, format, args));
+        }
+    }
+}
@@ -0,0 +1,339 @@
+package com.careercrafter.service;
+
+import com.careercrafter.dto.RelatedSkill;
+import com.careercrafter.repository.ResumeRepository;
+import com.careercrafter.repository.SkillsRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * In-memory skill co-occurrence model over all resumes.
+ * Skills are interned to integer IDs and pair counts are kept in a sparse
+ * matrix of primitive open-addressing rows, so a related-skills query
+ * only touches the rows of the skills the user already has. Resumes are
+ * applied incrementally: the old skill set is subtracted and the new one
+ * added, so the model never needs a full recount to stay current.
+ */
+@Component
+public class SkillCooccurrenceModel {
+
+    private static final Logger log = LoggerFactory.getLogger(SkillCooccurrenceModel.class);
+
+    @Autowired
+    private SkillsRepository skillsRepository;
+
+    @Autowired
+    private ResumeRepository resumeRepository;
+
+    @Autowired
+    private SkillDictionary skillDictionary;
+
+    @Value("${ai.skills.cooccurrence.min-support:2}")
+    private int minSupport;
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private final Map<String, Integer> idByKey = new HashMap<>();
+    private final List<String> displayNames = new ArrayList<>();
+    private int[] frequency = new int[64];
+    private SparseRow[] rows = new SparseRow[64];
+    private final Map<String, int[]> skillsByResume = new HashMap<>();
+    private LocalDateTime lastRefresh;
+
+    /**
+     * Load every resume's skills; run at startup and periodically as a safety net
+     */
+    @Scheduled(initialDelayString = "${ai.skills.cooccurrence.initial-delay-ms:15000}",
+            fixedDelayString = "${ai.skills.cooccurrence.rebuild-interval-ms:86400000}")
+    public void rebuild() {
+        try {
+            LocalDateTime startedAt = LocalDateTime.now();
+            Map<String, List<String>> resumes = groupByResume(skillsRepository.findAllResumeSkillPairs());
+            lock.writeLock().lock();
+            try {
+                idByKey.clear();
+                displayNames.clear();
+                frequency = new int[64];
+                rows = new SparseRow[64];
+                skillsByResume.clear();
+                resumes.forEach(this::applyResume);
+                lastRefresh = startedAt;
+            } finally {
+                lock.writeLock().unlock();
+            }
+            log.info("Skill co-occurrence model rebuilt from {} resumes", resumes.size());
+        } catch (Exception e) {
+            log.warn("Failed to rebuild skill co-occurrence model: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * Apply resumes updated since the last refresh
+     */
+    @Scheduled(initialDelayString = "${ai.skills.cooccurrence.refresh-interval-ms:60000}",
+            fixedDelayString = "${ai.skills.cooccurrence.refresh-interval-ms:60000}")
+    public void refreshUpdatedResumes() {
+        LocalDateTime since;
+        lock.readLock().lock();
+        try {
+            since = lastRefresh;
+        } finally {
+            lock.readLock().unlock();
+        }
+        if (since == null) {
+            return;
+        }
+        try {
+            LocalDateTime startedAt = LocalDateTime.now();
+            List<String> updatedIds = resumeRepository.findIdsUpdatedSince(since);
+            Map<String, List<String>> resumes = groupByResume(skillsRepository.findResumeSkillPairsUpdatedSince(since));
+            lock.writeLock().lock();
+            try {
+                for (String resumeId : updatedIds) {
+                    applyResume(resumeId, resumes.getOrDefault(resumeId, List.of()));
+                }
+                lastRefresh = startedAt;
+            } finally {
+                lock.writeLock().unlock();
+            }
+        } catch (Exception e) {
+            log.warn("Failed to refresh skill co-occurrence model: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * Replace the skills recorded for a resume
+     */
+    public void updateResume(String resumeId, Collection<String> skills) {
+        lock.writeLock().lock();
+        try {
+            applyResume(resumeId, skills);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Forget a deleted resume
+     */
+    public void removeResume(String resumeId) {
+        updateResume(resumeId, List.of());
+    }
+
+    /**
+     * Top-K skills that co-occur with the given skills, excluding the given skills.
+     * Scores are cosine-normalized so that skills listed on nearly every
+     * resume do not dominate the suggestions.
+     */
+    public List<RelatedSkill> relatedSkills(Collection<String> skills, int limit) {
+        lock.readLock().lock();
+        try {
+            Set<Integer> inputIds = new HashSet<>();
+            for (String skill : skills) {
+                Integer id = idByKey.get(keyOf(skill));
+                if (id != null) {
+                    inputIds.add(id);
+                }
+            }
+
+            Map<Integer, double[]> candidates = new HashMap<>();
+            for (int a : inputIds) {
+                SparseRow row = rows[a];
+                if (row == null) {
+                    continue;
+                }
+                row.forEach((b, count) -> {
+                    if (count < minSupport || inputIds.contains(b)) {
+                        return;
+                    }
+                    double[] acc = candidates.computeIfAbsent(b, k -> new double[2]);
+                    acc[0] += count / Math.sqrt((double) frequency[a] * frequency[b]);
+                    acc[1] += count;
+                });
+            }
+
+            PriorityQueue<Map.Entry<Integer, double[]>> top = new PriorityQueue<>(
+                    Comparator.comparingDouble(e -> e.getValue()[0]));
+            for (Map.Entry<Integer, double[]> entry : candidates.entrySet()) {
+                top.offer(entry);
+                if (top.size() > limit) {
+                    top.poll();
+                }
+            }
+
+            List<RelatedSkill> result = new ArrayList<>(top.size());
+            while (!top.isEmpty()) {
+                Map.Entry<Integer, double[]> entry = top.poll();
+                result.add(RelatedSkill.builder()
+                        .name(displayNames.get(entry.getKey()))
+                        .score(entry.getValue()[0])
+                        .coOccurrences((int) entry.getValue()[1])
+                        .build());
+            }
+            result.sort(Comparator.comparingDouble(RelatedSkill::getScore).reversed());
+            return result;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Subtract the old skill set of the resume and add the new one; caller holds the write lock
+     */
+    private void applyResume(String resumeId, Collection<String> skills) {
+        int[] previous = skillsByResume.remove(resumeId);
+        if (previous != null) {
+            addPairs(previous, -1);
+        }
+        if (skills.isEmpty()) {
+            return;
+        }
+        int[] ids = skills.stream()
+                .filter(skill -> skill != null && !skill.isBlank())
+                .mapToInt(this::intern)
+                .distinct()
+                .toArray();
+        Arrays.sort(ids);
+        skillsByResume.put(resumeId, ids);
+        addPairs(ids, 1);
+    }
+
+    private void addPairs(int[] ids, int delta) {
+        for (int i = 0; i < ids.length; i++) {
+            frequency[ids[i]] += delta;
+            for (int j = 0; j < ids.length; j++) {
+                if (i != j) {
+                    row(ids[i]).add(ids[j], delta);
+                }
+            }
+        }
+    }
+
+    private int intern(String skill) {
+        String key = keyOf(skill);
+        Integer id = idByKey.get(key);
+        if (id != null) {
+            return id;
+        }
+        int newId = displayNames.size();
+        idByKey.put(key, newId);
+        String canonical = skillDictionary.canonicalize(skill);
+        displayNames.add(canonical != null ? canonical : skill.strip());
+        if (newId >= frequency.length) {
+            frequency = Arrays.copyOf(frequency, frequency.length * 2);
+            rows = Arrays.copyOf(rows, rows.length * 2);
+        }
+        return newId;
+    }
+
+    private SparseRow row(int id) {
+        if (rows[id] == null) {
+            rows[id] = new SparseRow();
+        }
+        return rows[id];
+    }
+
+    /**
+     * Synonyms share a key through the skill dictionary; unknown skills are case-folded
+     */
+    private String keyOf(String skill) {
+        String canonical = skillDictionary.canonicalize(skill);
+        return (canonical != null ? canonical : skill.strip()).toLowerCase(Locale.ROOT);
+    }
+
+    private static Map<String, List<String>> groupByResume(List<Object[]> pairs) {
+        Map<String, List<String>> resumes = new HashMap<>();
+        for (Object[] pair : pairs) {
+            resumes.computeIfAbsent((String) pair[0], k -> new ArrayList<>()).add((String) pair[1]);
+        }
+        return resumes;
+    }
+
+    /**
+     * Open-addressing int-to-int map holding one row of the co-occurrence matrix
+     */
+    private static final class SparseRow {
+        private static final int EMPTY = -1;
+
+        private int[] keys = newKeys(8);
+        private int[] values = new int[8];
+        private int size;
+
+        void add(int key, int delta) {
+            int slot = find(key);
+            if (keys[slot] == EMPTY) {
+                if (delta <= 0) {
+                    return;
+                }
+                keys[slot] = key;
+                size++;
+            }
+            values[slot] += delta;
+            if (size * 4 > keys.length * 3) {
+                resize();
+            }
+        }
+
+        void forEach(IntIntConsumer consumer) {
+            for (int i = 0; i < keys.length; i++) {
+                if (keys[i] != EMPTY && values[i] > 0) {
+                    consumer.accept(keys[i], values[i]);
+                }
+            }
+        }
+
+        private int find(int key) {
+            int mask = keys.length - 1;
+            int slot = (key * 0x9E3779B9) >>> 1 & mask;
+            while (keys[slot] != EMPTY && keys[slot] != key) {
+                slot = (slot + 1) & mask;
+            }
+            return slot;
+        }
+
+        private void resize() {
+            int[] oldKeys = keys;
+            int[] oldValues = values;
+            keys = newKeys(oldKeys.length * 2);
+            values = new int[oldKeys.length * 2];
+            size = 0;
+            for (int i = 0; i < oldKeys.length; i++) {
+                if (oldKeys[i] != EMPTY && oldValues[i] > 0) {
+                    int slot = find(oldKeys[i]);
+                    keys[slot] = oldKeys[i];
+                    values[slot] = oldValues[i];
+                    size++;
+                }
+            }
+        }
+
+        private static int[] newKeys(int capacity) {
+            int[] keys = new int[capacity];
+            Arrays.fill(keys, EMPTY);
+            return keys;
+        }
+    }
+
+    @FunctionalInterface
+    private interface IntIntConsumer {
+        void accept(int key, int value);
+    }
+}
@@ -0,0 +1,171 @@
+package com.careercrafter.service;
+
+import com.careercrafter.repository.SkillsRepository;
+import jakarta.annotation.PostConstruct;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Skill taxonomy index built from the bundled skills/skill-dictionary.txt.
+ * Skill names stored in the database can optionally be added, but only
+ * those entered by a minimum number of different users, so one user's free
+ * text never becomes a skill for everyone else.
+ * All synonym phrases are compiled into one Aho-Corasick automaton, so
+ * finding the skills in a job description or resume is a single linear
+ * pass over the text. Text and patterns are case-folded and tokenized the
+ * same way, and matches must cover whole words.
+ */
+@Component
+public class SkillDictionary {
+
+    private static final Logger log = LoggerFactory.getLogger(SkillDictionary.class);
+
+    private static final String DICTIONARY_PATH = "skills/skill-dictionary.txt";
+    private static final int MAX_DATABASE_SKILL_LENGTH = 50;
+    private static final int MAX_DATABASE_SKILL_WORDS = 4;
+
+    @Autowired
+    private SkillsRepository skillsRepository;
+
+    @Value("${ai.skills.index-from-database:false}")
+    private boolean indexDatabaseSkills;
+
+    @Value("${ai.skills.database-min-users:5}")
+    private long databaseMinUsers;
+
+    private final Map<String, String> bundledPhrases = new LinkedHashMap<>();
+    private volatile Index index;
+
+    @PostConstruct
+    public void load() throws IOException {
+        ClassPathResource resource = new ClassPathResource(DICTIONARY_PATH);
+        try (BufferedReader reader = new BufferedReader(
+                new InputStreamReader(resource.getInputStream(), StandardCharsets.UTF_8))) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                line = line.strip();
+                if (line.isEmpty() || line.startsWith("#")) {
+                    continue;
+                }
+                String[] names = line.split("\\|");
+                String canonical = names[0].strip();
+                for (String name : names) {
+                    String phrase = normalizePhrase(name);
+                    if (!phrase.isEmpty()) {
+                        bundledPhrases.putIfAbsent(phrase, canonical);
+                    }
+                }
+            }
+        }
+        this.index = new Index(bundledPhrases);
+    }
+
+    /**
+     * Rebuild the index with the skill names enough users have entered.
+     * Bundled entries win over database names for the same phrase.
+     */
+    @Scheduled(initialDelayString = "${ai.skills.refresh-initial-delay-ms:10000}",
+            fixedDelayString = "${ai.skills.refresh-interval-ms:1800000}")
+    public void refresh() {
+        if (!indexDatabaseSkills) {
+            return;
+        }
+        try {
+            Map<String, String> phrases = new LinkedHashMap<>(bundledPhrases);
+            for (String name : skillsRepository.findNamesUsedByAtLeast(databaseMinUsers)) {
+                if (name == null || name.length() > MAX_DATABASE_SKILL_LENGTH) {
+                    continue;
+                }
+                List<String> tokens = TextTokenizer.tokenize(name);
+                if (tokens.isEmpty() || tokens.size() > MAX_DATABASE_SKILL_WORDS
+                        || (tokens.size() == 1 && TextTokenizer.isStopWord(tokens.get(0)))) {
+                    continue;
+                }
+                phrases.putIfAbsent(String.join(" ", tokens), name.strip());
+            }
+            this.index = new Index(phrases);
+            log.info("Skill index rebuilt with {} phrases", phrases.size());
+        } catch (Exception e) {
+            log.warn("Failed to refresh skill index from database: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * Canonical skills mentioned in the text, in order of first mention
+     */
+    public Set<String> extract(String text) {
+        Set<String> skills = new LinkedHashSet<>();
+        if (text == null || text.isEmpty()) {
+            return skills;
+        }
+        Index current = index;
+        String normalized = " " + String.join(" ", TextTokenizer.tokenize(text)) + " ";
+        List<AhoCorasickMatcher.Match> matches = current.matcher.findAll(normalized);
+
+        // Keep the leftmost-longest match where phrases overlap ("spring boot" over "spring")
+        matches.sort(Comparator.comparingInt(AhoCorasickMatcher.Match::start)
+                .thenComparing(Comparator.comparingInt(AhoCorasickMatcher.Match::end).reversed()));
+        int lastEnd = 0;
+        for (AhoCorasickMatcher.Match match : matches) {
+            // Patterns carry a boundary space on each side, which adjacent matches share
+            if (match.start() + 1 >= lastEnd) {
+                skills.add(current.canonicalNames.get(match.patternId()));
+                lastEnd = match.end() - 1;
+            }
+        }
+        return skills;
+    }
+
+    /**
+     * Canonical name for a skill phrase, or null when it is not in the index
+     */
+    public String canonicalize(String phrase) {
+        Index current = index;
+        Integer id = current.idByPhrase.get(normalizePhrase(phrase));
+        return id != null ? current.canonicalNames.get(id) : null;
+    }
+
+    public boolean isSkillPhrase(String phrase) {
+        return canonicalize(phrase) != null;
+    }
+
+    private static String normalizePhrase(String phrase) {
+        return String.join(" ", TextTokenizer.tokenize(phrase));
+    }
+
+    /**
+     * Immutable snapshot of the automaton, swapped atomically on refresh
+     */
+    private static final class Index {
+        private final AhoCorasickMatcher matcher;
+        private final List<String> canonicalNames = new ArrayList<>();
+        private final Map<String, Integer> idByPhrase = new LinkedHashMap<>();
+
+        Index(Map<String, String> phrases) {
+            List<String> patterns = new ArrayList<>(phrases.size());
+            for (Map.Entry<String, String> entry : phrases.entrySet()) {
+                idByPhrase.put(entry.getKey(), patterns.size());
+                patterns.add(" " + entry.getKey() + " ");
+                canonicalNames.add(entry.getValue());
+            }
+            this.matcher = new AhoCorasickMatcher(patterns);
+        }
+    }
+}
@@ -0,0 +1,119 @@
+package com.careercrafter.service;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+
+/**
+ * Lightweight tokenizer for resume and job description text.
+ * Lower-cases and splits on anything that is not a letter, digit or one of
+ * the characters that appear inside technology names (c++, c#, node.js).
+ */
+public final class TextTokenizer {
+
+    private static final Set<String> STOP_WORDS = Set.of(
+            "a", "about", "above", "after", "all", "also", "an", "and", "any", "are", "as", "at", "be",
+            "been", "being", "both", "but", "by", "can", "could", "do", "does", "each", "etc", "for",
+            "from", "has", "have", "having", "he", "her", "his", "how", "i", "if", "in", "into", "is",
+            "it", "its", "may", "more", "most", "must", "my", "no", "not", "of", "on", "or", "other",
+            "our", "out", "over", "own", "per", "plus", "same", "she", "should", "so", "some", "such",
+            "than", "that", "the", "their", "them", "then", "there", "these", "they", "this", "those",
+            "through", "to", "under", "up", "us", "very", "was", "we", "were", "what", "when", "where",
+            "which", "while", "who", "whom", "why", "will", "with", "within", "would", "you", "your",
+            "able", "ability", "across", "including", "strong", "work", "working", "experience",
+            "years", "year", "team", "role", "job", "company", "position", "candidate", "ideal",
+            "looking", "join", "new", "well", "using", "use", "knowledge", "understanding", "skills",
+            "responsibilities", "requirements", "preferred", "required", "qualifications");
+
+    private TextTokenizer() {
+    }
+
+    /**
+     * Split text into lower-case tokens, keeping stop words
+     */
+    public static List<String> tokenize(String text) {
+        List<String> tokens = new ArrayList<>();
+        if (text == null) {
+            return tokens;
+        }
+        String lower = text.toLowerCase(Locale.ROOT);
+        int start = -1;
+        for (int i = 0; i <= lower.length(); i++) {
+            char c = i < lower.length() ? lower.charAt(i) : ' ';
+            if (isTokenChar(c)) {
+                if (start < 0) {
+                    start = i;
+                }
+            } else if (start >= 0) {
+                addToken(tokens, lower, start, i);
+                start = -1;
+            }
+        }
+        return tokens;
+    }
+
+    /**
+     * Tokens that carry meaning for matching: no stop words, no single characters
+     */
+    public static List<String> contentTokens(String text) {
+        List<String> tokens = tokenize(text);
+        tokens.removeIf(TextTokenizer::isStopWord);
+        return tokens;
+    }
+
+    /**
+     * Split text into sentences and lines, stripped and without empty entries.
+     * A sentence ends at a line break or at . ! ? followed by whitespace, so
+     * names like node.js stay intact.
+     */
+    public static List<String> sentences(String text) {
+        List<String> sentences = new ArrayList<>();
+        if (text == null) {
+            return sentences;
+        }
+        int start = 0;
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            boolean boundary = c == '\n'
+                    || ((c == '.' || c == '!' || c == '?')
+                    && (i + 1 == text.length() || Character.isWhitespace(text.charAt(i + 1))));
+            if (boundary) {
+                addSentence(sentences, text, start, i + 1);
+                start = i + 1;
+            }
+        }
+        addSentence(sentences, text, start, text.length());
+        return sentences;
+    }
+
+    public static boolean isStopWord(String token) {
+        return token.length() < 2 || STOP_WORDS.contains(token);
+    }
+
+    static boolean isTokenChar(char c) {
+        return Character.isLetterOrDigit(c) || c == '+' || c == '#' || c == '.';
+    }
+
+    private static void addSentence(List<String> sentences, String text, int start, int end) {
+        String sentence = text.substring(start, end).strip();
+        if (!sentence.isEmpty()) {
+            sentences.add(sentence);
+        }
+    }
+
+    /**
+     * Add the token without leading or trailing sentence dots, keeping ".net" style names
+     */
+    private static void addToken(List<String> tokens, String text, int start, int end) {
+        while (end > start && text.charAt(end - 1) == '.') {
+            end--;
+        }
+        while (start < end - 1 && text.charAt(start) == '.' && text.charAt(start + 1) == '.') {
+            start++;
+        }
+        if (end > start && !(end - start == 1 && text.charAt(start) == '.')) {
+            tokens.add(text.substring(start, end));
+        }
+    }
+}
@@ -0,0 +1,159 @@
+package com.careercrafter.service;
+
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Local prompt token estimator.
+ * Text is pre-tokenized the way BPE tokenizers of the Llama and GPT
+ * families split it (letter runs with their leading space, digits in
+ * groups of three, punctuation on its own) and each piece is costed by
+ * length. The estimate is calibrated continuously against the prompt token
+ * counts Groq reports, so it tracks whichever model is configured.
+ */
+@Component
+public class TokenEstimator {
+
+    /**
+     * Chat template tokens added around each message and to prime the reply
+     */
+    private static final int TOKENS_PER_MESSAGE = 4;
+    private static final int REPLY_PRIMING_TOKENS = 3;
+
+    private static final double CALIBRATION_WEIGHT = 0.05;
+    private static final double MIN_CORRECTION = 0.5;
+    private static final double MAX_CORRECTION = 2.0;
+
+    private volatile double correction = 1.0;
+
+    /**
+     * Estimated token count of the text
+     */
+    public int estimate(CharSequence text) {
+        if (text == null || text.isEmpty()) {
+            return 0;
+        }
+        return (int) Math.ceil(rawEstimate(text) * correction);
+    }
+
+    /**
+     * Estimated prompt tokens for a chat request with the given message contents
+     */
+    public int estimateMessages(String... contents) {
+        int tokens = REPLY_PRIMING_TOKENS;
+        for (String content : contents) {
+            tokens += TOKENS_PER_MESSAGE + estimate(content);
+        }
+        return tokens;
+    }
+
+    /**
+     * Feed back the prompt token count reported by the model for an estimate
+     */
+    public void calibrate(int estimatedTokens, int actualTokens) {
+        if (estimatedTokens <= 0 || actualTokens <= 0) {
+            return;
+        }
+        double current = correction;
+        double observed = current * actualTokens / estimatedTokens;
+        double next = current + CALIBRATION_WEIGHT * (observed - current);
+        correction = Math.max(MIN_CORRECTION, Math.min(MAX_CORRECTION, next));
+    }
+
+    public double getCorrection() {
+        return correction;
+    }
+
+    /**
+     * Fit the text into the token budget by extraction: whole sentences and
+     * lines are kept in their original order while they fit, and those that
+     * do not are dropped. A text with no sentence that fits is cut at a word.
+     */
+    public String fitToBudget(String text, int maxTokens) {
+        if (text == null || estimate(text) <= maxTokens) {
+            return text;
+        }
+        List<String> kept = new ArrayList<>();
+        int used = 0;
+        for (String sentence : TextTokenizer.sentences(text)) {
+            // One token for the line break that joins kept sentences
+            int cost = estimate(sentence) + 1;
+            if (used + cost <= maxTokens) {
+                kept.add(sentence);
+                used += cost;
+            }
+        }
+        if (kept.isEmpty()) {
+            return truncate(text, maxTokens);
+        }
+        return String.join("\n", kept);
+    }
+
+    /**
+     * Longest prefix of the text, ending at a word boundary, within the budget
+     */
+    private String truncate(String text, int maxTokens) {
+        int low = 0;
+        int high = text.length();
+        while (low < high) {
+            int mid = (low + high + 1) >>> 1;
+            if (estimate(text.subSequence(0, mid)) <= maxTokens) {
+                low = mid;
+            } else {
+                high = mid - 1;
+            }
+        }
+        int end = low;
+        while (end > 0 && end < text.length() && !Character.isWhitespace(text.charAt(end))) {
+            end--;
+        }
+        return text.substring(0, end > 0 ? end : low).strip();
+    }
+
+    /**
+     * Uncalibrated estimate from the BPE-style pre-tokenization
+     */
+    private static double rawEstimate(CharSequence text) {
+        double tokens = 0;
+        int i = 0;
+        int length = text.length();
+        while (i < length) {
+            char c = text.charAt(i);
+            int start = i;
+            if (Character.isLetter(c)) {
+                boolean ascii = true;
+                while (i < length && Character.isLetter(text.charAt(i))) {
+                    ascii &= text.charAt(i) < 128;
+                    i++;
+                }
+                int run = i - start;
+                // Common English words are a single token; longer or rarer ones split every few characters
+                tokens += ascii ? 1 + (run - 1) / 7 : (run + 1) / 2;
+            } else if (Character.isDigit(c)) {
+                while (i < length && Character.isDigit(text.charAt(i))) {
+                    i++;
+                }
+                tokens += (i - start + 2) / 3;
+            } else if (c == '\n') {
+                while (i < length && (text.charAt(i) == '\n' || text.charAt(i) == '\r')) {
+                    i++;
+                }
+                tokens += 1;
+            } else if (Character.isWhitespace(c)) {
+                while (i < length && text.charAt(i) != '\n' && Character.isWhitespace(text.charAt(i))) {
+                    i++;
+                }
+                // A single space merges into the following word; longer runs are a token of their own
+                if (i - start > 1) {
+                    tokens += 1;
+                }
+            } else {
+                i++;
+                tokens += 1;
+            }
+        }
+        return tokens;
+    }
+}
@@ -0,0 +1,251 @@
+package com.careercrafter.service;
+
+import com.careercrafter.dto.AIRequest;
+import com.careercrafter.dto.AIResponse;
+import com.careercrafter.dto.GeneratedResume;
+import com.careercrafter.dto.WorkExperienceBatchResponse;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Service for enhancing many work experiences with few upstream calls.
+ * Experiences already in the ai-bullets cache are answered from it. The
+ * rest are packed into as few Groq calls as the prompt and completion token
+ * budgets allow, using structured JSON output keyed by item id, and each
+ * item's bullets are written back to the ai-bullets cache under the same
+ * key a single /enhance-work-experience call would use. Items the model
+ * leaves out are retried one by one. Upstream calls run in the caller's AI
+ * lane: the endpoint answers synchronously, so it is scheduled as the
+ * interactive work it is.
+ */
+@Service
+public class WorkExperienceBatchService {
+
+    private static final String BULLETS_CACHE = "ai-bullets";
+    private static final String OPERATION = "enhanceWorkExperience";
+
+    /**
+     * Instructions and output format around the items in the batch prompt
+     */
+    private static final int BASE_PROMPT_TOKENS = 200;
+    private static final int ITEM_OVERHEAD_TOKENS = 20;
+
+    @Autowired
+    private AIService aiService;
+
+    @Autowired
+    private CacheManager cacheManager;
+
+    @Autowired
+    private AICacheKeyGenerator cacheKeyGenerator;
+
+    @Autowired
+    private TokenEstimator tokenEstimator;
+
+    @Autowired
+    private JobDescriptionCompressor jobDescriptionCompressor;
+
+    @Value("${ai.groq.max-tokens}")
+    private int maxOutputTokens;
+
+    @Value("${ai.batch.output-tokens-per-item:200}")
+    private int outputTokensPerItem;
+
+    @Value("${ai.batch.max-prompt-tokens:3000}")
+    private int maxPromptTokens;
+
+    @Value("${ai.batch.max-concurrency:2}")
+    private int maxConcurrency;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    /**
+     * Enhance every work experience in the request
+     */
+    public CompletableFuture<WorkExperienceBatchResponse> enhance(AIRequest request) {
+        long start = System.currentTimeMillis();
+        AIPriority lane = AIPriority.current();
+        List<AIRequest.WorkExperienceItem> experiences = ResumeGenerationService.experiencesOf(request);
+        Cache cache = cacheManager.getCache(BULLETS_CACHE);
+
+        List<Item> items = new ArrayList<>(experiences.size());
+        List<GeneratedResume.ExperienceBullets> results = new ArrayList<>(experiences.size());
+        for (int i = 0; i < experiences.size(); i++) {
+            AIRequest.WorkExperienceItem experience = experiences.get(i);
+            AIRequest itemRequest = ResumeGenerationService.experienceRequest(request, experience);
+            items.add(new Item(i, experience, itemRequest, cacheKeyGenerator.keyFor(OPERATION, itemRequest)));
+            results.add(GeneratedResume.ExperienceBullets.builder()
+                    .experienceId(experience.getExperienceId())
+                    .jobTitle(experience.getJobTitle())
+                    .company(experience.getCompany())
+                    .build());
+        }
+
+        AtomicInteger cacheHits = new AtomicInteger();
+        AtomicInteger upstreamCalls = new AtomicInteger();
+        List<String> errors = Collections.synchronizedList(new ArrayList<>());
+
+        return Flux.fromIterable(items)
+                .filterWhen(item -> cached(cache, item.key())
+                        .doOnNext(response -> {
+                            results.get(item.index()).setBullets(response.getContent());
+                            cacheHits.incrementAndGet();
+                        })
+                        .hasElement()
+                        .map(hit -> !hit))
+                .collectList()
+                .flatMapMany(misses -> Flux.fromIterable(chunk(request.getJobDescription(), misses)))
+                .flatMap(chunk -> enhanceChunk(lane, request, chunk, cache, results, upstreamCalls, errors),
+                        maxConcurrency)
+                .then(Mono.fromCallable(() -> WorkExperienceBatchResponse.builder()
+                        .workExperience(results)
+                        .cacheHits(cacheHits.get())
+                        .upstreamCalls(upstreamCalls.get())
+                        .errors(new ArrayList<>(errors))
+                        .responseTime(System.currentTimeMillis() - start)
+                        .build()))
+                .toFuture();
+    }
+
+    /**
+     * One upstream call for the chunk, then a single call for each item it left out
+     */
+    private Mono<Void> enhanceChunk(AIPriority lane, AIRequest request, List<Item> chunk, Cache cache,
+            List<GeneratedResume.ExperienceBullets> results, AtomicInteger upstreamCalls, List<String> errors) {
+        List<AIRequest.WorkExperienceItem> payload = new ArrayList<>(chunk.size());
+        for (Item item : chunk) {
+            payload.add(AIRequest.WorkExperienceItem.builder()
+                    .experienceId(Integer.toString(item.index()))
+                    .jobTitle(item.experience().getJobTitle())
+                    .company(item.experience().getCompany())
+                    .description(item.experience().getDescription())
+                    .achievements(item.experience().getAchievements())
+                    .build());
+        }
+
+        long start = System.currentTimeMillis();
+        upstreamCalls.incrementAndGet();
+        // Subscribed on whichever thread finished the cache lookups, so the lane is passed explicitly
+        return Mono.fromFuture(() -> AIPriority.runIn(lane, () -> aiService.enhanceWorkExperienceBatch(
+                        request.getJobDescription(), payload, outputTokensPerItem * chunk.size())))
+                .flatMap(batch -> {
+                    List<Item> missing = new ArrayList<>();
+                    for (Item item : chunk) {
+                        List<String> itemBullets = batch.bullets().get(Integer.toString(item.index()));
+                        if (itemBullets == null) {
+                            missing.add(item);
+                            continue;
+                        }
+                        AIResponse response = AIResponse.builder()
+                                .content(toJson(itemBullets))
+                                .model(batch.model())
+                                .responseTime(System.currentTimeMillis() - start)
+                                .build();
+                        results.get(item.index()).setBullets(response.getContent());
+                        if (cache != null) {
+                            cache.put(item.key(), response);
+                        }
+                    }
+                    return Flux.fromIterable(missing)
+                            .flatMap(item -> {
+                                upstreamCalls.incrementAndGet();
+                                return enhanceOne(lane, item, results, errors);
+                            })
+                            .then();
+                })
+                .onErrorResume(e -> {
+                    for (Item item : chunk) {
+                        results.get(item.index()).setError(e.getMessage());
+                    }
+                    errors.add(chunk.size() + " work experience(s) failed: " + e.getMessage());
+                    return Mono.empty();
+                });
+    }
+
+    private Mono<Void> enhanceOne(AIPriority lane, Item item, List<GeneratedResume.ExperienceBullets> results,
+            List<String> errors) {
+        // Goes through the cached proxy, so a concurrent single request for the same item is shared
+        return Mono.fromFuture(() -> AIPriority.runIn(lane,
+                        () -> aiService.enhanceWorkExperience(item.request())), true)
+                .doOnNext(response -> results.get(item.index()).setBullets(response.getContent()))
+                .onErrorResume(e -> {
+                    results.get(item.index()).setError(e.getMessage());
+                    errors.add("experience " + item.index() + ": " + e.getMessage());
+                    return Mono.empty();
+                })
+                .then();
+    }
+
+    /**
+     * Pack items in order into chunks that fit both the prompt budget and the completion budget
+     */
+    private List<List<Item>> chunk(String jobDescription, List<Item> items) {
+        int baseTokens = BASE_PROMPT_TOKENS + tokenEstimator.estimate(jobDescriptionCompressor.compress(jobDescription));
+        int maxItems = Math.max(1, maxOutputTokens / outputTokensPerItem);
+
+        List<List<Item>> chunks = new ArrayList<>();
+        List<Item> current = new ArrayList<>();
+        int promptTokens = baseTokens;
+        for (Item item : items) {
+            AIRequest.WorkExperienceItem experience = item.experience();
+            int itemTokens = ITEM_OVERHEAD_TOKENS
+                    + tokenEstimator.estimate(experience.getJobTitle())
+                    + tokenEstimator.estimate(experience.getCompany())
+                    + tokenEstimator.estimate(experience.getDescription())
+                    + tokenEstimator.estimate(experience.getAchievements());
+            if (!current.isEmpty() && (current.size() >= maxItems || promptTokens + itemTokens > maxPromptTokens)) {
+                chunks.add(current);
+                current = new ArrayList<>();
+                promptTokens = baseTokens;
+            }
+            current.add(item);
+            promptTokens += itemTokens;
+        }
+        if (!current.isEmpty()) {
+            chunks.add(current);
+        }
+        return chunks;
+    }
+
+    /**
+     * Cached bullets for the key; empty on a miss or a cache failure
+     */
+    private static Mono<AIResponse> cached(Cache cache, String key) {
+        if (cache == null) {
+            return Mono.empty();
+        }
+        return Mono.defer(() -> {
+                    CompletableFuture<?> cached = cache.retrieve(key);
+                    return cached != null ? Mono.fromFuture(cached, true) : Mono.empty();
+                })
+                .ofType(AIResponse.class)
+                .onErrorResume(e -> Mono.empty());
+    }
+
+    private String toJson(List<String> bullets) {
+        try {
+            return objectMapper.writeValueAsString(bullets);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Failed to serialize bullets", e);
+        }
+    }
+
+    /**
+     * One work experience: its position, the single-item request and its ai-bullets cache key
+     */
+    private record Item(int index, AIRequest.WorkExperienceItem experience, AIRequest request, String key) {
+    }
+}
@@ -0,0 +1,84 @@
+package com.careercrafter.config;
+
+import com.careercrafter.service.AIPriority;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.cache.caffeine.CaffeineCache;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+class StaleWhileRevalidateCacheTest {
+
+    private StaleWhileRevalidateCache cache;
+
+    @BeforeEach
+    void setUp() {
+        // Async Caffeine with null values allowed, as the cache manager builds it
+        CaffeineCache caffeine = new CaffeineCache("ai-test", Caffeine.newBuilder().buildAsync(), true);
+        cache = new StaleWhileRevalidateCache(caffeine, Caffeine.newBuilder(),
+                Duration.ofMinutes(10), Duration.ofSeconds(30), new SimpleMeterRegistry());
+    }
+
+    @Test
+    void retrieveCompletesWithTheValueItself() {
+        cache.put("key", "value");
+
+        assertEquals("value", cache.retrieve("key").join());
+    }
+
+    @Test
+    void retrieveMissesWithNull() {
+        assertNull(cache.retrieve("missing"));
+    }
+
+    @Test
+    void retrieveWithLoaderLoadsOnceAndCaches() {
+        assertEquals("loaded", cache.retrieve("key", () -> CompletableFuture.completedFuture("loaded")).join());
+        assertEquals("loaded", cache.retrieve("key", () -> CompletableFuture.completedFuture("other")).join());
+        assertEquals("loaded", cache.retrieve("key").join());
+    }
+
+    @Test
+    void staleEntriesAreServedWhileTheyAreRefreshedInTheBackground() {
+        cache.put("key", "old");
+        cache.stampPromoted("key", LocalDateTime.now().minusHours(1));
+        List<AIPriority> lanes = new ArrayList<>();
+
+        Object served = cache.retrieve("key", () -> {
+            lanes.add(AIPriority.current());
+            return CompletableFuture.completedFuture("new");
+        }).join();
+
+        assertEquals("old", served);
+        assertEquals(List.of(AIPriority.BACKGROUND), lanes);
+        assertEquals("new", cache.retrieve("key").join());
+    }
+
+    @Test
+    void aFailedRefreshKeepsTheStaleEntryUntilTheBackoffHasPassed() {
+        cache.put("key", "old");
+        cache.stampPromoted("key", LocalDateTime.now().minusHours(1));
+        AtomicInteger refreshes = new AtomicInteger();
+        Supplier<CompletableFuture<Object>> failing = () -> {
+            refreshes.incrementAndGet();
+            return CompletableFuture.failedFuture(new IllegalStateException("Groq is down"));
+        };
+
+        assertEquals("old", cache.retrieve("key", failing).join());
+        assertEquals("old", cache.retrieve("key", failing).join());
+
+        assertEquals(1, refreshes.get());
+        assertEquals("old", cache.retrieve("key").join());
+    }
+}
@@ -0,0 +1,112 @@
+package com.careercrafter.config;
+
+import com.careercrafter.service.AICacheStore;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.cache.caffeine.CaffeineCache;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class TieredCacheTest {
+
+    private static final String NAME = "ai-test";
+
+    @Mock
+    private AICacheStore store;
+
+    private CaffeineCache l1;
+    private TieredCache cache;
+    private final Map<Object, LocalDateTime> promoted = new HashMap<>();
+
+    @BeforeEach
+    void setUp() {
+        // Async Caffeine with null values allowed, as the cache manager builds it
+        l1 = new CaffeineCache(NAME, Caffeine.newBuilder().buildAsync(), true);
+        cache = new TieredCache(l1, store, Duration.ofHours(1));
+        cache.setPromotionListener(promoted::put);
+    }
+
+    @Test
+    void l2HitsArePromotedIntoL1WithTheirWriteTime() {
+        LocalDateTime createdAt = LocalDateTime.now().minusMinutes(5);
+        when(store.load(NAME, "key")).thenReturn(new AICacheStore.StoredValue("stored", createdAt));
+
+        assertEquals("stored", cache.get("key").get());
+        assertEquals("stored", cache.get("key").get());
+
+        verify(store, times(1)).load(NAME, "key");
+        assertEquals("stored", l1.get("key").get());
+        assertEquals(Map.of("key", createdAt), promoted);
+    }
+
+    @Test
+    void retrieveFallsThroughToL2() {
+        LocalDateTime createdAt = LocalDateTime.now().minusMinutes(5);
+        when(store.loadAsync(NAME, "key"))
+                .thenReturn(CompletableFuture.completedFuture(new AICacheStore.StoredValue("stored", createdAt)));
+
+        assertEquals("stored", cache.retrieve("key").join());
+        assertEquals("stored", l1.get("key").get());
+        assertEquals(Map.of("key", createdAt), promoted);
+    }
+
+    @Test
+    void missesInBothTiersCompleteWithNull() {
+        when(store.loadAsync(NAME, "missing")).thenReturn(CompletableFuture.completedFuture(null));
+
+        assertNull(cache.retrieve("missing").join());
+        assertNull(l1.get("missing"));
+    }
+
+    @Test
+    void loadedValuesAreWrittenThroughToL2() {
+        when(store.loadAsync(NAME, "key")).thenReturn(CompletableFuture.completedFuture(null));
+
+        assertEquals("loaded", cache.retrieve("key", () -> CompletableFuture.completedFuture("loaded")).join());
+        assertEquals("loaded", cache.retrieve("key", () -> CompletableFuture.completedFuture("other")).join());
+
+        verify(store, times(1)).storeAsync(NAME, "key", "loaded");
+        verify(store, never()).storeAsync(NAME, "key", "other");
+    }
+
+    @Test
+    void putsAndEvictionsReachBothTiers() {
+        cache.put("key", "value");
+        verify(store).storeAsync(NAME, "key", "value");
+        assertEquals("value", l1.get("key").get());
+
+        cache.evict("key");
+        verify(store).evictAsync(NAME, "key");
+        assertNull(l1.get("key"));
+    }
+
+    @Test
+    void l2EntriesPastTheHardTtlAreMisses() {
+        AICacheStore.StoredValue expired = new AICacheStore.StoredValue("old", LocalDateTime.now().minusHours(2));
+        when(store.load(NAME, "key")).thenReturn(expired);
+        when(store.loadAsync(NAME, "key")).thenReturn(CompletableFuture.completedFuture(expired));
+
+        assertNull(cache.get("key"));
+        assertNull(cache.retrieve("key").join());
+        assertEquals("new", cache.retrieve("key", () -> CompletableFuture.completedFuture("new")).join());
+
+        verify(store).storeAsync(NAME, "key", "new");
+        assertEquals(Map.of(), promoted);
+    }
+}
@@ -0,0 +1,154 @@
+package com.careercrafter.controller;
+
+import com.careercrafter.dto.PDFRequest;
+import com.careercrafter.service.PDFRenderContext;
+import com.careercrafter.service.PDFService;
+import com.careercrafter.service.PDFTemplateRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class PDFControllerTest {
+
+    private PDFController controller;
+
+    @BeforeEach
+    void setUp() {
+        PDFTemplateRegistry templateRegistry = new PDFTemplateRegistry();
+        controller = new PDFController();
+        ReflectionTestUtils.setField(controller, "pdfService", new PDFService(new PDFRenderContext(), templateRegistry));
+        ReflectionTestUtils.setField(controller, "templateRegistry", templateRegistry);
+    }
+
+    @Test
+    void downloadStreamsThePdfIntoTheResponse() throws IOException {
+        ResponseEntity<StreamingResponseBody> response = controller.downloadPDF(null, resume(20));
+
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        assertEquals(MediaType.APPLICATION_PDF, response.getHeaders().getContentType());
+        // No Content-Length, so the container uses chunked transfer
+        assertEquals(-1, response.getHeaders().getContentLength());
+
+        ResponseStream out = new ResponseStream();
+        response.getBody().writeTo(out);
+
+        assertTrue(out.text().startsWith("%PDF-"));
+        assertTrue(out.text().stripTrailing().endsWith("%%EOF"));
+        assertTrue(out.writes > 1, "written in pieces while rendering, not as one buffered copy");
+        assertFalse(out.closed, "the container owns the response stream");
+    }
+
+    @Test
+    void downloadRejectsARequestWithoutPersonalInfo() {
+        PDFRequest request = resume(1);
+        request.setPersonalInfo(null);
+
+        ResponseEntity<StreamingResponseBody> response = controller.downloadPDF(null, request);
+
+        assertEquals(HttpStatus.BAD_REQUEST, response.getStatusCode());
+        assertNull(response.getBody());
+    }
+
+
+    @Test
+    void base64EncodesThePdfWhileRendering() throws IOException {
+        ResponseEntity<StreamingResponseBody> response = controller.generatePDFBase64(null, resume(5));
+
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        assertEquals(MediaType.TEXT_PLAIN, response.getHeaders().getContentType());
+
+        ResponseStream out = new ResponseStream();
+        response.getBody().writeTo(out);
+
+        // Decoding fails on missing padding, so this also checks the encoder was finished
+        String pdf = new String(Base64.getDecoder().decode(out.toByteArray()), StandardCharsets.ISO_8859_1);
+        assertTrue(pdf.startsWith("%PDF-"));
+        assertTrue(pdf.stripTrailing().endsWith("%%EOF"));
+        assertFalse(out.closed, "finishing the Base64 encoder must not close the response stream");
+    }
+
+    @Test
+    void base64ErrorBodyIsUtf8Text() throws IOException {
+        PDFRequest request = resume(1);
+        request.setPersonalInfo(null);
+
+        ResponseEntity<StreamingResponseBody> response = controller.generatePDFBase64(null, request);
+        ResponseStream out = new ResponseStream();
+        response.getBody().writeTo(out);
+
+        assertEquals(HttpStatus.BAD_REQUEST, response.getStatusCode());
+        assertEquals(MediaType.TEXT_PLAIN, response.getHeaders().getContentType());
+        assertEquals("Failed to generate PDF: personal info is required", out.toString(StandardCharsets.UTF_8));
+    }
+
+    static PDFRequest resume(int jobs) {
+        List<PDFRequest.WorkExperienceDTO> workExperience = new ArrayList<>();
+        for (int i = 0; i < jobs; i++) {
+            workExperience.add(PDFRequest.WorkExperienceDTO.builder()
+                    .jobTitle("Software Engineer")
+                    .company("Company " + i)
+                    .startMonth(1)
+                    .startYear(2010 + i)
+                    .isPresent(i == 0)
+                    .description("Built and ran the payment services.")
+                    .achievements(List.of("Cut checkout latency by 30%", "Moved fraud checks off the request path"))
+                    .build());
+        }
+        return PDFRequest.builder()
+                .resumeId("test")
+                .personalInfo(PDFRequest.PersonalInfoDTO.builder()
+                        .fullName("Jordan Example")
+                        .email("jordan@example.com")
+                        .phone("+1 555 0100")
+                        .location("Berlin")
+                        .summary("Backend engineer.")
+                        .build())
+                .workExperience(workExperience)
+                .build();
+    }
+
+    /**
+     * Response body stand-in that records how it was written to and whether it was closed
+     */
+    static final class ResponseStream extends ByteArrayOutputStream {
+        int writes;
+        boolean closed;
+
+        @Override
+        public synchronized void write(byte[] b, int off, int len) {
+            writes++;
+            super.write(b, off, len);
+        }
+
+        @Override
+        public synchronized void write(int b) {
+            writes++;
+            super.write(b);
+        }
+
+        @Override
+        public void close() {
+            closed = true;
+        }
+
+        String text() {
+            return toString(StandardCharsets.ISO_8859_1);
+        }
+    }
+}
@@ -0,0 +1,76 @@
+package com.careercrafter.service;
+
+import com.careercrafter.dto.AIRequest;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+
+class AICacheKeyGeneratorTest {
+
+    private AICacheKeyGenerator generator;
+
+    @BeforeEach
+    void setUp() {
+        generator = new AICacheKeyGenerator();
+        ReflectionTestUtils.setField(generator, "model", "mixtral-8x7b-32768");
+        ReflectionTestUtils.setField(generator, "temperature", 0.7);
+        ReflectionTestUtils.setField(generator, "defaultMode", "llm");
+    }
+
+    @Test
+    void whitespaceDoesNotChangeTheKey() {
+        AIRequest compact = AIRequest.builder().jobDescription("Java developer with Spring Boot").build();
+        AIRequest padded = AIRequest.builder().jobDescription("  Java   developer\nwith\tSpring Boot \n").build();
+
+        assertEquals(generator.keyFor("analyzeJobMatch", compact), generator.keyFor("analyzeJobMatch", padded));
+    }
+
+    @Test
+    void modeIsNormalizedAndDefaulted() {
+        AIRequest request = AIRequest.builder().jobDescription("Java developer").build();
+        String absent = generator.keyFor("analyzeJobMatch", request);
+
+        assertEquals(absent, generator.keyFor("analyzeJobMatch", request.toBuilder().mode("llm").build()));
+        assertEquals(absent, generator.keyFor("analyzeJobMatch", request.toBuilder().mode(" LLM ").build()));
+        assertEquals(absent, generator.keyFor("analyzeJobMatch", request.toBuilder().mode("  ").build()));
+        assertEquals(generator.keyFor("analyzeJobMatch", request.toBuilder().mode("local").build()),
+                generator.keyFor("analyzeJobMatch", request.toBuilder().mode("LOCAL").build()));
+        assertNotEquals(absent, generator.keyFor("analyzeJobMatch", request.toBuilder().mode("local").build()));
+    }
+
+    @Test
+    void resolveModeFallsBackToTheDefault() {
+        assertEquals("llm", generator.resolveMode(null));
+        assertEquals("llm", generator.resolveMode(""));
+        assertEquals("hybrid", generator.resolveMode(" Hybrid"));
+    }
+
+    @Test
+    void adjacentFieldsDoNotRunTogether() {
+        AIRequest first = AIRequest.builder().jobTitle("ab").company("c").build();
+        AIRequest second = AIRequest.builder().jobTitle("a").company("bc").build();
+
+        assertNotEquals(generator.keyFor("enhanceSummary", first), generator.keyFor("enhanceSummary", second));
+    }
+
+    @Test
+    void operationAndModelParametersArePartOfTheKey() {
+        AIRequest request = AIRequest.builder().personalInfo("Jane Doe").build();
+        String key = generator.keyFor("enhanceSummary", request);
+
+        assertNotEquals(key, generator.keyFor("suggestSkills", request));
+        ReflectionTestUtils.setField(generator, "temperature", 0.2);
+        assertNotEquals(key, generator.keyFor("enhanceSummary", request));
+    }
+
+    @Test
+    void absentAndEmptyFieldsDiffer() {
+        AIRequest absent = AIRequest.builder().build();
+        AIRequest empty = AIRequest.builder().skills("").build();
+
+        assertNotEquals(generator.keyFor("suggestSkills", absent), generator.keyFor("suggestSkills", empty));
+    }
+}
@@ -0,0 +1,128 @@
+package com.careercrafter.service;
+
+import com.careercrafter.dto.AIJobRequest;
+import com.careercrafter.entity.AIJob;
+import com.careercrafter.exception.ValidationException;
+import com.careercrafter.repository.AIJobRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class AIJobServiceTest {
+
+    private static final String NODE = "node-1";
+
+    @Mock
+    private AIJobRepository jobRepository;
+
+    private AIJobService jobService;
+
+    @BeforeEach
+    void setUp() {
+        jobService = new AIJobService(new SimpleMeterRegistry());
+        ReflectionTestUtils.setField(jobService, "jobRepository", jobRepository);
+        ReflectionTestUtils.setField(jobService, "visibilityTimeoutSeconds", 120L);
+        ReflectionTestUtils.setField(jobService, "retryBaseSeconds", 10L);
+        ReflectionTestUtils.setField(jobService, "retryMaxSeconds", 600L);
+    }
+
+    @Test
+    void claimedJobsAreLockedForTheVisibilityTimeout() {
+        AIJob job = job("job-1", 0, 3);
+        when(jobRepository.lockClaimable(any(), eq(2))).thenReturn(List.of(job));
+
+        LocalDateTime before = LocalDateTime.now();
+        List<AIJob> claimed = jobService.claim(NODE, 2);
+
+        assertEquals(List.of(job), claimed);
+        assertEquals(AIJob.STATUS_RUNNING, job.getStatus());
+        assertEquals(1, job.getAttempts());
+        assertEquals(NODE, job.getLockedBy());
+        assertFalse(job.getLockedUntil().isBefore(before.plusSeconds(120)));
+    }
+
+    @Test
+    void jobsThatTimedOutOnTheirLastAttemptFailInsteadOfBeingClaimed() {
+        AIJob exhausted = job("job-1", 3, 3);
+        when(jobRepository.lockClaimable(any(), eq(2))).thenReturn(List.of(exhausted));
+
+        assertEquals(List.of(), jobService.claim(NODE, 2));
+        assertEquals(AIJob.STATUS_FAILED, exhausted.getStatus());
+        assertNull(exhausted.getLockedBy());
+        assertEquals("Worker timed out on the last of 3 attempts", exhausted.getError());
+    }
+
+    @Test
+    void failedAttemptsAreRetriedWithBackoff() {
+        AIJob job = job("job-1", 1, 3);
+        when(jobRepository.reschedule(eq("job-1"), eq(NODE), eq("Groq is down"), any(), any())).thenReturn(1);
+
+        LocalDateTime before = LocalDateTime.now();
+        jobService.fail(job, NODE, new IllegalStateException("Groq is down"));
+
+        // 10 s base with up to 20 % jitter either way
+        verify(jobRepository).reschedule(eq("job-1"), eq(NODE), eq("Groq is down"),
+                argThat(runAt -> !runAt.isBefore(before.plusSeconds(8))
+                        && !runAt.isAfter(LocalDateTime.now().plusSeconds(12))), any());
+        verify(jobRepository, never()).markFailed(anyString(), anyString(), anyString(), any());
+    }
+
+    @Test
+    void lastAttemptsAndInvalidJobsFailForGood() {
+        when(jobRepository.markFailed(anyString(), eq(NODE), anyString(), any())).thenReturn(1);
+
+        jobService.fail(job("job-1", 3, 3), NODE, new IllegalStateException("Groq is down"));
+        jobService.fail(job("job-2", 1, 3), NODE, new ValidationException("Unknown job type: x"));
+
+        verify(jobRepository).markFailed(eq("job-1"), eq(NODE), eq("Groq is down"), any());
+        verify(jobRepository).markFailed(eq("job-2"), eq(NODE), eq("Unknown job type: x"), any());
+        verify(jobRepository, never()).reschedule(anyString(), anyString(), anyString(), any(), any());
+    }
+
+    @Test
+    void resultsAreStoredAsJson() {
+        when(jobRepository.markSucceeded(eq("job-1"), eq(NODE), anyString(), any())).thenReturn(1);
+
+        jobService.succeed(job("job-1", 1, 3), NODE, Map.of("score", 80));
+
+        verify(jobRepository).markSucceeded(eq("job-1"), eq(NODE), eq("{\"score\":80}"), any());
+    }
+
+    @Test
+    void unknownJobTypesAreRejectedOnSubmit() {
+        AIJobRequest request = new AIJobRequest();
+        request.setType("mine-bitcoin");
+
+        assertThrows(ValidationException.class, () -> jobService.submit("user-1", request));
+        verify(jobRepository, never()).save(any());
+    }
+
+    private static AIJob job(String id, int attempts, int maxAttempts) {
+        AIJob job = new AIJob(id, "user-1", AIJobService.TYPE_BULK_JOB_MATCH, "{}");
+        job.setStatus(AIJob.STATUS_PENDING);
+        job.setAttempts(attempts);
+        job.setMaxAttempts(maxAttempts);
+        return job;
+    }
+}
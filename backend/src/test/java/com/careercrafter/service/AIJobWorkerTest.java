@@ -0,0 +1,127 @@
+package com.careercrafter.service;
+
+import com.careercrafter.dto.BulkJobMatchResponse;
+import com.careercrafter.entity.AIJob;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeoutException;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isA;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class AIJobWorkerTest {
+
+    private static final String NODE = "node-1";
+
+    @Mock
+    private AIJobService jobService;
+
+    @Mock
+    private BulkJobMatchService bulkJobMatchService;
+
+    private AIJobWorker worker;
+
+    @BeforeEach
+    void setUp() {
+        worker = new AIJobWorker(new SimpleMeterRegistry());
+        ReflectionTestUtils.setField(worker, "jobService", jobService);
+        ReflectionTestUtils.setField(worker, "bulkJobMatchService", bulkJobMatchService);
+        ReflectionTestUtils.setField(worker, "enabled", true);
+        ReflectionTestUtils.setField(worker, "workerThreads", 2);
+        ReflectionTestUtils.setField(worker, "nodeId", NODE);
+        ReflectionTestUtils.setField(worker, "jobTimeoutSeconds", 1L);
+        // The tests poll by hand
+        ReflectionTestUtils.setField(worker, "pollIntervalMs", 3_600_000L);
+        ReflectionTestUtils.setField(worker, "heartbeatIntervalMs", 3_600_000L);
+        worker.init();
+    }
+
+    @AfterEach
+    void tearDown() {
+        worker.shutdown();
+    }
+
+    @Test
+    void finishedJobsAreStored() {
+        AIJob job = job("job-1");
+        when(jobService.claim(NODE, 2)).thenReturn(List.of(job));
+        BulkJobMatchResponse ranked = BulkJobMatchResponse.builder().build();
+        when(bulkJobMatchService.rank(any())).thenReturn(CompletableFuture.completedFuture(ranked));
+
+        worker.poll();
+
+        verify(jobService, timeout(2000)).succeed(job, NODE, ranked);
+    }
+
+    @Test
+    void jobsThatRunPastTheTimeoutAreCancelledBeforeTheyFail() {
+        AIJob job = job("job-1");
+        CompletableFuture<BulkJobMatchResponse> hanging = new CompletableFuture<>();
+        when(jobService.claim(NODE, 2)).thenReturn(List.of(job));
+        when(bulkJobMatchService.rank(any())).thenAnswer(invocation -> hanging);
+
+        worker.poll();
+
+        verify(jobService, timeout(3000)).fail(eq(job), eq(NODE), isA(TimeoutException.class));
+        assertTrue(hanging.isCancelled());
+    }
+
+    @Test
+    void pollClaimsOnlyAsManyJobsAsThereAreFreeWorkers() {
+        List<CompletableFuture<BulkJobMatchResponse>> started = new CopyOnWriteArrayList<>();
+        when(jobService.claim(NODE, 2)).thenReturn(List.of(job("job-1")));
+        when(jobService.claim(NODE, 1)).thenReturn(List.of(job("job-2")));
+        when(bulkJobMatchService.rank(any())).thenAnswer(invocation -> {
+            CompletableFuture<BulkJobMatchResponse> future = new CompletableFuture<>();
+            started.add(future);
+            return future;
+        });
+        ReflectionTestUtils.setField(worker, "jobTimeoutSeconds", 60L);
+
+        worker.poll();
+        worker.poll();
+        worker.poll();
+
+        verify(jobService, times(1)).claim(NODE, 2);
+        verify(jobService, times(1)).claim(NODE, 1);
+        verify(jobService, times(2)).claim(eq(NODE), anyInt());
+        started.forEach(future -> future.complete(null));
+    }
+
+    @Test
+    void shutdownHandsRunningJobsBackToTheQueue() {
+        when(jobService.release(NODE)).thenReturn(1);
+
+        worker.shutdown();
+        worker.poll();
+
+        verify(jobService).release(NODE);
+        verify(jobService, never()).claim(eq(NODE), anyInt());
+    }
+
+    private static AIJob job(String id) {
+        AIJob job = new AIJob(id, "user-1", AIJobService.TYPE_BULK_JOB_MATCH, "{}");
+        job.setAttempts(1);
+        job.setMaxAttempts(3);
+        return job;
+    }
+}
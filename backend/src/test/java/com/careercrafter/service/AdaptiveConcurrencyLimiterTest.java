@@ -0,0 +1,138 @@
+package com.careercrafter.service;
+
+import com.careercrafter.exception.ServiceUnavailableException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+import reactor.core.Disposable;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeoutException;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class AdaptiveConcurrencyLimiterTest {
+
+    private AdaptiveConcurrencyLimiter limiter;
+
+    @BeforeEach
+    void setUp() {
+        limiter = new AdaptiveConcurrencyLimiter(new SimpleMeterRegistry());
+        ReflectionTestUtils.setField(limiter, "initialLimit", 4);
+        ReflectionTestUtils.setField(limiter, "minLimit", 1);
+        ReflectionTestUtils.setField(limiter, "maxLimit", 8);
+        ReflectionTestUtils.setField(limiter, "backoffRatio", 0.5);
+        ReflectionTestUtils.setField(limiter, "latencyThresholdMs", 15000L);
+        ReflectionTestUtils.setField(limiter, "maxQueueSize", 1);
+        ReflectionTestUtils.setField(limiter, "queueTimeoutMs", 5000L);
+        ReflectionTestUtils.setField(limiter, "backgroundQueueTimeoutMs", 5000L);
+        ReflectionTestUtils.setField(limiter, "interactiveReserveRatio", 0.25);
+    }
+
+    @Test
+    void successGrowsTheLimitAdditively() {
+        assertEquals("ok", limiter.execute(AIPriority.INTERACTIVE, () -> Mono.just("ok")).block());
+
+        assertEquals(4.25, limiter.getLimit(), 1e-9);
+        assertEquals(0, limiter.getInFlight());
+    }
+
+    @Test
+    void overloadCutsTheLimitMultiplicatively() {
+        WebClientResponseException tooManyRequests = WebClientResponseException.create(
+                HttpStatus.TOO_MANY_REQUESTS.value(), "Too Many Requests", null, null, null);
+
+        assertThrows(WebClientResponseException.class,
+                () -> limiter.execute(AIPriority.INTERACTIVE, () -> Mono.error(tooManyRequests)).block());
+
+        assertEquals(2.0, limiter.getLimit(), 1e-9);
+        assertEquals(0, limiter.getInFlight());
+    }
+
+    @Test
+    void otherErrorsLeaveTheLimitAlone() {
+        assertThrows(IllegalStateException.class, () -> limiter.execute(AIPriority.INTERACTIVE,
+                () -> Mono.error(new IllegalStateException("bad response"))).block());
+
+        assertEquals(4.0, limiter.getLimit(), 1e-9);
+    }
+
+    @Test
+    void timeoutsAndTooManyRequestsAreOverload() {
+        assertTrue(AdaptiveConcurrencyLimiter.isOverload(new RuntimeException(new TimeoutException())));
+        assertFalse(AdaptiveConcurrencyLimiter.isOverload(new IllegalArgumentException()));
+    }
+
+    @Test
+    void rejectsWhenTheQueueIsFull() {
+        ReflectionTestUtils.setField(limiter, "initialLimit", 1);
+        Sinks.One<String> running = Sinks.one();
+        Disposable holder = limiter.execute(AIPriority.INTERACTIVE, running::asMono).subscribe();
+        Disposable queued = limiter.execute(AIPriority.INTERACTIVE, () -> Mono.just("queued")).subscribe();
+
+        assertEquals(1, limiter.getQueued(AIPriority.INTERACTIVE));
+        ServiceUnavailableException rejected = assertThrows(ServiceUnavailableException.class,
+                () -> limiter.execute(AIPriority.INTERACTIVE, () -> Mono.just("rejected")).block());
+        assertTrue(rejected.getMessage().contains("capacity"));
+
+        holder.dispose();
+        queued.dispose();
+    }
+
+    @Test
+    void queuedCallsTimeOutAsUnavailable() {
+        ReflectionTestUtils.setField(limiter, "initialLimit", 1);
+        ReflectionTestUtils.setField(limiter, "queueTimeoutMs", 50L);
+        Sinks.One<String> running = Sinks.one();
+        Disposable holder = limiter.execute(AIPriority.INTERACTIVE, running::asMono).subscribe();
+
+        assertThrows(ServiceUnavailableException.class,
+                () -> limiter.execute(AIPriority.INTERACTIVE, () -> Mono.just("late")).block(Duration.ofSeconds(5)));
+        assertEquals(0, limiter.getQueued(AIPriority.INTERACTIVE));
+
+        holder.dispose();
+    }
+
+    @Test
+    void interactiveCallsAreGrantedBeforeQueuedBackgroundCalls() {
+        ReflectionTestUtils.setField(limiter, "initialLimit", 1);
+        List<String> order = new CopyOnWriteArrayList<>();
+        Sinks.One<String> running = Sinks.one();
+        limiter.execute(AIPriority.INTERACTIVE, running::asMono).subscribe();
+        limiter.execute(AIPriority.BACKGROUND, () -> Mono.just("background")).subscribe(order::add);
+        limiter.execute(AIPriority.INTERACTIVE, () -> Mono.just("interactive")).subscribe(order::add);
+
+        running.tryEmitValue("first");
+
+        assertEquals(List.of("interactive", "background"), order);
+        assertEquals(0, limiter.getInFlight());
+    }
+
+    @Test
+    void backgroundCallsLeaveTheInteractiveReserveFree() {
+        List<Sinks.One<String>> running = List.of(Sinks.one(), Sinks.one(), Sinks.one(), Sinks.one());
+        for (Sinks.One<String> call : running) {
+            limiter.execute(AIPriority.BACKGROUND, call::asMono).subscribe();
+        }
+
+        // A limit of 4 with a 25% reserve lets 3 background calls run
+        assertEquals(3, limiter.getInFlight());
+        assertEquals(1, limiter.getQueued(AIPriority.BACKGROUND));
+        String interactive = limiter.execute(AIPriority.INTERACTIVE, () -> Mono.just("interactive"))
+                .block(Duration.ofSeconds(5));
+        assertEquals("interactive", interactive);
+
+        running.forEach(call -> call.tryEmitValue("done"));
+        assertEquals(0, limiter.getInFlight());
+    }
+}
@@ -0,0 +1,86 @@
+package com.careercrafter.service;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class AhoCorasickMatcherTest {
+
+    @Test
+    void findsOverlappingAndNestedPatterns() {
+        AhoCorasickMatcher matcher = new AhoCorasickMatcher(List.of("he", "she", "his", "hers"));
+
+        List<AhoCorasickMatcher.Match> matches = matcher.findAll("ushers");
+
+        assertEquals(List.of(
+                new AhoCorasickMatcher.Match(1, 4, 1),
+                new AhoCorasickMatcher.Match(2, 4, 0),
+                new AhoCorasickMatcher.Match(2, 6, 3)), matches);
+    }
+
+    @Test
+    void reportsDuplicatePatternsOnceUnderTheFirstId() {
+        AhoCorasickMatcher matcher = new AhoCorasickMatcher(List.of("java", "java"));
+
+        assertEquals(List.of(new AhoCorasickMatcher.Match(0, 4, 0)), matcher.findAll("java"));
+    }
+
+    @Test
+    void findsNothingWithoutPatternsOrText() {
+        assertTrue(new AhoCorasickMatcher(List.of()).findAll("anything").isEmpty());
+        assertTrue(new AhoCorasickMatcher(List.of("java")).findAll("").isEmpty());
+    }
+
+    @Test
+    void agreesWithBruteForceSearch() {
+        Random random = new Random(42);
+        for (int round = 0; round < 200; round++) {
+            List<String> patterns = new ArrayList<>();
+            int patternCount = 1 + random.nextInt(8);
+            for (int i = 0; i < patternCount; i++) {
+                patterns.add(randomText(random, 1 + random.nextInt(4)));
+            }
+            String text = randomText(random, random.nextInt(60));
+
+            List<AhoCorasickMatcher.Match> expected = bruteForce(patterns, text);
+            List<AhoCorasickMatcher.Match> actual = new ArrayList<>(new AhoCorasickMatcher(patterns).findAll(text));
+            actual.sort(ORDER);
+
+            assertEquals(expected, actual, () -> "patterns " + patterns + " in " + text);
+        }
+    }
+
+    private static final Comparator<AhoCorasickMatcher.Match> ORDER =
+            Comparator.comparingInt(AhoCorasickMatcher.Match::start)
+                    .thenComparingInt(AhoCorasickMatcher.Match::end)
+                    .thenComparingInt(AhoCorasickMatcher.Match::patternId);
+
+    private static List<AhoCorasickMatcher.Match> bruteForce(List<String> patterns, String text) {
+        List<AhoCorasickMatcher.Match> matches = new ArrayList<>();
+        for (int id = 0; id < patterns.size(); id++) {
+            String pattern = patterns.get(id);
+            if (patterns.indexOf(pattern) != id) {
+                continue;
+            }
+            for (int start = text.indexOf(pattern); start >= 0; start = text.indexOf(pattern, start + 1)) {
+                matches.add(new AhoCorasickMatcher.Match(start, start + pattern.length(), id));
+            }
+        }
+        matches.sort(ORDER);
+        return matches;
+    }
+
+    private static String randomText(Random random, int length) {
+        StringBuilder text = new StringBuilder(length);
+        for (int i = 0; i < length; i++) {
+            text.append((char) ('a' + random.nextInt(3)));
+        }
+        return text.toString();
+    }
+}
@@ -0,0 +1,164 @@
+package com.careercrafter.service;
+
+import com.careercrafter.dto.AIRequest;
+import com.careercrafter.dto.BulkJobMatchRequest;
+import com.careercrafter.dto.BulkJobMatchResponse;
+import com.careercrafter.dto.JobMatchAnalysis;
+import com.careercrafter.dto.JobMatchResult;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class BulkJobMatchServiceTest {
+
+    @Mock
+    private AIService aiService;
+
+    @InjectMocks
+    private BulkJobMatchService bulkJobMatchService;
+
+    private final Map<String, CompletableFuture<JobMatchAnalysis>> pending = new ConcurrentHashMap<>();
+    private final List<AIPriority> lanes = new CopyOnWriteArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(bulkJobMatchService, "maxConcurrency", 4);
+        ReflectionTestUtils.setField(bulkJobMatchService, "maxJobs", 50);
+        ReflectionTestUtils.setField(bulkJobMatchService, "defaultTopK", 10);
+        ReflectionTestUtils.setField(bulkJobMatchService, "jobTimeoutSeconds", 5L);
+
+        lenient().when(aiService.isLocalMode(any())).thenReturn(false);
+        // A job description "score:N" scores N; "fail" fails; "pending" waits for the test to complete it
+        lenient().when(aiService.analyzeJobMatch(any())).thenAnswer(invocation -> {
+            lanes.add(AIPriority.current());
+            String jobDescription = invocation.<AIRequest>getArgument(0).getJobDescription();
+            if (jobDescription.equals("fail")) {
+                return CompletableFuture.failedFuture(new IllegalStateException("Groq is down"));
+            }
+            if (jobDescription.startsWith("pending")) {
+                return pending.computeIfAbsent(jobDescription, key -> new CompletableFuture<>());
+            }
+            return CompletableFuture.completedFuture(analysis(Integer.parseInt(jobDescription.substring(6))));
+        });
+    }
+
+    @Test
+    void ranksTheBestKFirst() {
+        BulkJobMatchResponse response = bulkJobMatchService.rank(request(3, "score:40", "score:90", "score:10",
+                "score:70", "score:55")).join();
+
+        assertEquals(List.of(90, 70, 55), scores(response.getRanking()));
+        assertEquals(5, response.getTotal());
+        assertEquals(List.of(), response.getFailed());
+    }
+
+    @Test
+    void hugeTopKIsClampedToTheNumberOfJobs() {
+        BulkJobMatchResponse response = bulkJobMatchService.rank(request(Integer.MAX_VALUE, "score:40", "score:90"))
+                .join();
+
+        assertEquals(List.of(90, 40), scores(response.getRanking()));
+    }
+
+    @Test
+    void absentTopKUsesTheConfiguredDefault() {
+        BulkJobMatchService.Ranking ranking = bulkJobMatchService.newRanking(null, 20);
+        for (int score = 1; score <= 20; score++) {
+            ranking.add(JobMatchResult.builder().analysis(analysis(score)).build());
+        }
+
+        assertEquals(List.of(20, 19, 18, 17, 16, 15, 14, 13, 12, 11), scores(ranking.toResponse(0).getRanking()));
+    }
+
+    @Test
+    void failedJobsAreReportedWithoutRanking() {
+        BulkJobMatchResponse response = bulkJobMatchService.rank(request(null, "score:40", "fail")).join();
+
+        assertEquals(List.of(40), scores(response.getRanking()));
+        assertEquals(1, response.getFailed().size());
+        assertEquals("Groq is down", response.getFailed().get(0).getError());
+        assertEquals(2, response.getTotal());
+    }
+
+    @Test
+    void slowJobsTimeOut() {
+        ReflectionTestUtils.setField(bulkJobMatchService, "jobTimeoutSeconds", 1L);
+
+        BulkJobMatchResponse response = bulkJobMatchService.rank(request(null, "score:40", "pending")).join();
+
+        assertEquals(List.of(40), scores(response.getRanking()));
+        assertEquals("Timed out", response.getFailed().get(0).getError());
+    }
+
+    @Test
+    void resultsAreEmittedInCompletionOrder() {
+        List<String> emitted = new CopyOnWriteArrayList<>();
+        bulkJobMatchService.matchAll(request(null, "pending-first", "score:70"))
+                .subscribe(result -> emitted.add(result.getJobId()));
+
+        assertEquals(List.of("job-1"), emitted);
+        pending.get("pending-first").complete(analysis(30));
+        assertEquals(List.of("job-1", "job-0"), emitted);
+    }
+
+    @Test
+    void upstreamCallsRunInTheBackgroundLane() {
+        bulkJobMatchService.rank(request(null, "score:40", "score:50")).join();
+
+        assertEquals(List.of(AIPriority.BACKGROUND, AIPriority.BACKGROUND), lanes);
+    }
+
+    @Test
+    void rejectsEmptyAndOversizedRequests() {
+        ReflectionTestUtils.setField(bulkJobMatchService, "maxJobs", 2);
+
+        assertThrows(IllegalArgumentException.class,
+                () -> bulkJobMatchService.matchAll(request(null)).blockLast());
+        assertThrows(IllegalArgumentException.class,
+                () -> bulkJobMatchService.matchAll(request(null, "score:1", "score:2", "score:3")).blockLast());
+        assertEquals(0, bulkJobMatchService.newRanking(BulkJobMatchRequest.builder().build())
+                .toResponse(0).getTotal());
+    }
+
+    private static BulkJobMatchRequest request(Integer topK, String... jobDescriptions) {
+        List<BulkJobMatchRequest.JobPosting> jobs = new ArrayList<>();
+        for (int i = 0; i < jobDescriptions.length; i++) {
+            jobs.add(BulkJobMatchRequest.JobPosting.builder()
+                    .jobId("job-" + i)
+                    .title("Engineer")
+                    .jobDescription(jobDescriptions[i])
+                    .build());
+        }
+        return BulkJobMatchRequest.builder()
+                .resumeData("Java developer")
+                .jobs(jobs)
+                .topK(topK)
+                .build();
+    }
+
+    private static JobMatchAnalysis analysis(int score) {
+        return JobMatchAnalysis.builder().matchScore(score).build();
+    }
+
+    private static List<Integer> scores(List<JobMatchResult> results) {
+        return results.stream().map(result -> result.getAnalysis().getMatchScore()).toList();
+    }
+}
@@ -0,0 +1,84 @@
+package com.careercrafter.service;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class JobDescriptionCompressorTest {
+
+    private static final String POSTING = String.join("\n",
+            "Founded in 1999, our mission is to delight customers around the globe every single day.",
+            "You will design and build backend services in Java and Spring Boot.",
+            "We offer health insurance, paid time off and a generous 401k match for everyone.",
+            "Experience with computer vision models in Python is required.",
+            "We are an equal opportunity employer and hire without regard to race or gender identity.",
+            "Must have production experience with PostgreSQL and Docker.");
+
+    private TokenEstimator tokenEstimator;
+    private JobDescriptionCompressor compressor;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        SkillDictionary skillDictionary = new SkillDictionary();
+        skillDictionary.load();
+        tokenEstimator = new TokenEstimator();
+
+        compressor = new JobDescriptionCompressor(new SimpleMeterRegistry(), 100);
+        ReflectionTestUtils.setField(compressor, "skillDictionary", skillDictionary);
+        ReflectionTestUtils.setField(compressor, "tokenEstimator", tokenEstimator);
+        ReflectionTestUtils.setField(compressor, "maxTokens", 60);
+    }
+
+    @Test
+    void passesThroughNullBlankAndShortPostings() {
+        assertNull(compressor.compress(null));
+        assertEquals("  ", compressor.compress("  "));
+        String shortPosting = "We offer health insurance. Java developer wanted.";
+        assertSame(shortPosting, compressor.compress(shortPosting));
+    }
+
+    @Test
+    void dropsBoilerplateAndKeepsRequirementsInOrder() {
+        String compressed = compressor.compress(POSTING);
+
+        assertEquals(String.join("\n",
+                "You will design and build backend services in Java and Spring Boot.",
+                "Experience with computer vision models in Python is required.",
+                "Must have production experience with PostgreSQL and Docker."), compressed);
+        assertTrue(tokenEstimator.estimate(compressed) <= 60);
+    }
+
+    @Test
+    void boilerplateWordsInsideRequirementsAreKept() {
+        String compressed = compressor.compress(POSTING);
+
+        // "vision" alone is not the "vision insurance" boilerplate phrase
+        assertTrue(compressed.contains("computer vision"));
+        assertFalse(compressed.contains("401k"));
+        assertFalse(compressed.contains("equal opportunity"));
+    }
+
+    @Test
+    void fitsTheBudgetWhenEverySentenceIsTooLong() {
+        ReflectionTestUtils.setField(compressor, "maxTokens", 5);
+
+        String compressed = compressor.compress(POSTING);
+
+        assertFalse(compressed.isEmpty());
+        assertTrue(tokenEstimator.estimate(compressed) <= 5);
+    }
+
+    @Test
+    void contentHashIsStableAndDistinct() {
+        assertEquals(JobDescriptionCompressor.contentHash(POSTING), JobDescriptionCompressor.contentHash(POSTING));
+        assertFalse(JobDescriptionCompressor.contentHash(POSTING)
+                .equals(JobDescriptionCompressor.contentHash(POSTING + " ")));
+    }
+}
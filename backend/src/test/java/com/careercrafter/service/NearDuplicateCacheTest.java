@@ -0,0 +1,113 @@
+package com.careercrafter.service;
+
+import com.careercrafter.dto.AIRequest;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.cache.Cache;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class NearDuplicateCacheTest {
+
+    private static final String CACHE = "jobMatch";
+    private static final String OPERATION = "analyzeJobMatch";
+    private static final String POSTING = "Senior backend engineer. You will design and build services in Java "
+            + "and Spring Boot, run them on Kubernetes and tune PostgreSQL queries. Five years of experience "
+            + "with distributed systems, observability and on-call ownership. Apply at careers.example.com.";
+
+    private ConcurrentMapCacheManager cacheManager;
+    private AICacheKeyGenerator keyGenerator;
+    private NearDuplicateCache nearDuplicates;
+
+    @BeforeEach
+    void setUp() {
+        cacheManager = new ConcurrentMapCacheManager(CACHE);
+        // Without null values retrieve completes with the value, as the AI caches' retrieve does
+        cacheManager.setAllowNullValues(false);
+        keyGenerator = new AICacheKeyGenerator();
+        ReflectionTestUtils.setField(keyGenerator, "model", "mixtral-8x7b-32768");
+        ReflectionTestUtils.setField(keyGenerator, "temperature", 0.7);
+        ReflectionTestUtils.setField(keyGenerator, "defaultMode", "llm");
+
+        nearDuplicates = new NearDuplicateCache(new SimpleMeterRegistry());
+        ReflectionTestUtils.setField(nearDuplicates, "cacheManager", cacheManager);
+        ReflectionTestUtils.setField(nearDuplicates, "cacheKeyGenerator", keyGenerator);
+        ReflectionTestUtils.setField(nearDuplicates, "threshold", 0.8);
+        ReflectionTestUtils.setField(nearDuplicates, "maxEntries", 100);
+    }
+
+    @Test
+    void identicalTextHasIdenticalSignatures() {
+        int[] a = NearDuplicateCache.signature(NearDuplicateCache.shingles(POSTING));
+        int[] b = NearDuplicateCache.signature(NearDuplicateCache.shingles("  " + POSTING.toUpperCase() + "\n"));
+
+        assertEquals(1.0, NearDuplicateCache.similarity(a, b));
+    }
+
+    @Test
+    void unrelatedTextIsDissimilar() {
+        int[] a = NearDuplicateCache.signature(NearDuplicateCache.shingles(POSTING));
+        int[] b = NearDuplicateCache.signature(NearDuplicateCache.shingles(
+                "Pastry chef wanted for a busy bakery; early mornings, laminated doughs and wedding cakes."));
+
+        assertTrue(NearDuplicateCache.similarity(a, b) < 0.2);
+    }
+
+    @Test
+    void blankTextHasNoShingles() {
+        assertEquals(0, NearDuplicateCache.shingles("  ").length);
+        assertEquals(1, NearDuplicateCache.shingles("java").length);
+    }
+
+    @Test
+    void servesANearDuplicatePosting() {
+        AIRequest original = AIRequest.builder().resumeData("resume").jobDescription(POSTING).build();
+        store(original, "cached analysis");
+
+        AIRequest copy = original.toBuilder()
+                .jobDescription(POSTING.replace("careers.example.com", "careers.example.com?utm_source=board"))
+                .build();
+
+        assertEquals("cached analysis", nearDuplicates.lookup(CACHE, OPERATION, copy).join());
+    }
+
+    @Test
+    void requiresTheSameContext() {
+        AIRequest original = AIRequest.builder().resumeData("resume").jobDescription(POSTING).build();
+        store(original, "cached analysis");
+
+        AIRequest otherResume = original.toBuilder().resumeData("another resume").build();
+
+        assertNull(nearDuplicates.lookup(CACHE, OPERATION, otherResume).join());
+    }
+
+    @Test
+    void doesNotAnswerARequestWithItsOwnEntry() {
+        AIRequest original = AIRequest.builder().resumeData("resume").jobDescription(POSTING).build();
+        store(original, "cached analysis");
+
+        assertNull(nearDuplicates.lookup(CACHE, OPERATION, original).join());
+    }
+
+    @Test
+    void missesWhenTheIndexedEntryWasEvicted() {
+        AIRequest original = AIRequest.builder().resumeData("resume").jobDescription(POSTING).build();
+        store(original, "cached analysis");
+        cacheManager.getCache(CACHE).clear();
+
+        AIRequest copy = original.toBuilder().jobDescription(POSTING + " Remote friendly.").build();
+
+        assertNull(nearDuplicates.lookup(CACHE, OPERATION, copy).join());
+    }
+
+    private void store(AIRequest request, String value) {
+        Cache cache = cacheManager.getCache(CACHE);
+        cache.put(keyGenerator.keyFor(OPERATION, request), value);
+        nearDuplicates.register(CACHE, OPERATION, request);
+    }
+}
@@ -0,0 +1,41 @@
+package com.careercrafter.service;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class PDFTemplateRegistryTest {
+
+    private final PDFTemplateRegistry registry = new PDFTemplateRegistry();
+
+    @Test
+    void idsAreCaseInsensitiveInAnyLocale() {
+        Locale previous = Locale.getDefault();
+        Locale.setDefault(Locale.forLanguageTag("tr-TR"));
+        try {
+            // "I".toLowerCase() is a dotless i in Turkish
+            assertEquals("classic", registry.get("CLASSIC").getId());
+        } finally {
+            Locale.setDefault(previous);
+        }
+    }
+
+    @Test
+    void missingAndUnknownIdsUseTheDefault() {
+        assertEquals(PDFTemplateRegistry.DEFAULT_TEMPLATE, registry.get(null).getId());
+        assertEquals(PDFTemplateRegistry.DEFAULT_TEMPLATE, registry.get("no-such-template").getId());
+    }
+
+    @Test
+    void templateIdsAreReadOnlyAndInRegistrationOrder() {
+        Set<String> ids = registry.getTemplateIds();
+
+        assertEquals(List.of("classic", "modern", "elegant"), List.copyOf(ids));
+        assertThrows(UnsupportedOperationException.class, () -> ids.remove("classic"));
+    }
+}
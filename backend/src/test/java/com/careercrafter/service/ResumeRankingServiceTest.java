@@ -0,0 +1,149 @@
+package com.careercrafter.service;
+
+import com.careercrafter.dto.AIRequest;
+import com.careercrafter.dto.BulkJobMatchResponse;
+import com.careercrafter.dto.JobMatchAnalysis;
+import com.careercrafter.dto.JobMatchResult;
+import com.careercrafter.dto.ResumeRankingRequest;
+import com.careercrafter.entity.PersonalInfo;
+import com.careercrafter.entity.Resume;
+import com.careercrafter.entity.Skills;
+import com.careercrafter.entity.WorkExperience;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class ResumeRankingServiceTest {
+
+    private static final String JOB_DESCRIPTION = "Backend engineer with Java and Kubernetes";
+
+    @Mock
+    private ResumeService resumeService;
+
+    @Mock
+    private AIService aiService;
+
+    @Mock
+    private JobMatchScorer jobMatchScorer;
+
+    @InjectMocks
+    private ResumeRankingService resumeRankingService;
+
+    private final BulkJobMatchService bulkJobMatchService = new BulkJobMatchService();
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(bulkJobMatchService, "defaultTopK", 10);
+        ReflectionTestUtils.setField(resumeRankingService, "bulkJobMatchService", bulkJobMatchService);
+        ReflectionTestUtils.setField(resumeRankingService, "maxConcurrency", 4);
+        ReflectionTestUtils.setField(resumeRankingService, "timeoutSeconds", 5L);
+
+        lenient().when(resumeService.getUserResumesWithDetails("user-1")).thenReturn(List.of(
+                resume("r1", "Backend", "score:60"),
+                resume("r2", "Platform", "score:85"),
+                resume("r3", "Frontend", "score:20")));
+    }
+
+    @Test
+    void ranksTheUsersResumesBestFirst() {
+        when(aiService.isLocalMode(any())).thenReturn(false);
+        when(aiService.analyzeJobMatch(any())).thenAnswer(invocation ->
+                CompletableFuture.completedFuture(analysis(scoreIn(invocation.<AIRequest>getArgument(0).getResumeData()))));
+
+        BulkJobMatchResponse response = resumeRankingService.rank("user-1", request(2)).join();
+
+        assertEquals(List.of("r2", "r1"), resumeIds(response.getRanking()));
+        assertEquals(3, response.getTotal());
+    }
+
+    @Test
+    void hugeTopKIsClampedToTheNumberOfResumes() {
+        when(aiService.isLocalMode(any())).thenReturn(false);
+        when(aiService.analyzeJobMatch(any())).thenAnswer(invocation ->
+                CompletableFuture.completedFuture(analysis(scoreIn(invocation.<AIRequest>getArgument(0).getResumeData()))));
+
+        BulkJobMatchResponse response = resumeRankingService.rank("user-1", request(Integer.MAX_VALUE)).join();
+
+        assertEquals(List.of("r2", "r1", "r3"), resumeIds(response.getRanking()));
+    }
+
+    @Test
+    void localModeParsesTheJobDescriptionOnce() {
+        JobMatchScorer.JobFeatures features = new JobMatchScorer.JobFeatures(Set.of("java"), Map.of());
+        when(aiService.isLocalMode(any())).thenReturn(true);
+        when(jobMatchScorer.prepare(JOB_DESCRIPTION)).thenReturn(features);
+        when(jobMatchScorer.analyze(anyString(), eq(features))).thenAnswer(invocation ->
+                analysis(scoreIn(invocation.getArgument(0))));
+
+        BulkJobMatchResponse response = resumeRankingService.rank("user-1", request(null)).join();
+
+        assertEquals(List.of("r2", "r1", "r3"), resumeIds(response.getRanking()));
+        verify(jobMatchScorer, times(1)).prepare(JOB_DESCRIPTION);
+        verify(aiService, never()).analyzeJobMatch(any());
+    }
+
+    @Test
+    void resumeTextFollowsThePageOrder() {
+        Resume resume = resume("r1", "Backend", "score:60");
+
+        assertEquals("Summary score:60\nEngineer, Acme\nBuilt services\nShipped score:60\nJava, Docker\n",
+                ResumeRankingService.resumeText(resume));
+    }
+
+    private static ResumeRankingRequest request(Integer topK) {
+        return ResumeRankingRequest.builder()
+                .jobDescription(JOB_DESCRIPTION)
+                .topK(topK)
+                .build();
+    }
+
+    private static Resume resume(String id, String title, String marker) {
+        Resume resume = new Resume(id, null, title);
+        PersonalInfo personalInfo = new PersonalInfo();
+        personalInfo.setSummary("Summary " + marker);
+        resume.setPersonalInfo(personalInfo);
+        WorkExperience experience = new WorkExperience(id + "-w", resume, "Engineer", "Acme");
+        experience.setDescription("Built services");
+        experience.setAchievements(List.of("Shipped " + marker));
+        resume.setWorkExperience(List.of(experience));
+        resume.setSkills(List.of(new Skills(id + "-s1", resume, "Java"), new Skills(id + "-s2", resume, "Docker")));
+        return resume;
+    }
+
+    private static int scoreIn(String resumeText) {
+        int start = resumeText.indexOf("score:") + 6;
+        int end = start;
+        while (end < resumeText.length() && Character.isDigit(resumeText.charAt(end))) {
+            end++;
+        }
+        return Integer.parseInt(resumeText.substring(start, end));
+    }
+
+    private static JobMatchAnalysis analysis(int score) {
+        return JobMatchAnalysis.builder().matchScore(score).build();
+    }
+
+    private static List<String> resumeIds(List<JobMatchResult> results) {
+        return results.stream().map(JobMatchResult::getResumeId).toList();
+    }
+}
@@ -0,0 +1,174 @@
+package com.careercrafter.service;
+
+import com.careercrafter.dto.AIRequest;
+import com.careercrafter.dto.AIResponse;
+import com.careercrafter.dto.WorkExperienceBatchResponse;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.cache.Cache;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class WorkExperienceBatchServiceTest {
+
+    private static final String OPERATION = "enhanceWorkExperience";
+
+    @Mock
+    private AIService aiService;
+
+    @Mock
+    private JobDescriptionCompressor jobDescriptionCompressor;
+
+    @InjectMocks
+    private WorkExperienceBatchService batchService;
+
+    private final ConcurrentMapCacheManager cacheManager = new ConcurrentMapCacheManager("ai-bullets");
+    private final AICacheKeyGenerator keyGenerator = new AICacheKeyGenerator();
+    private final List<AIPriority> lanes = new CopyOnWriteArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        cacheManager.setAllowNullValues(false);
+        ReflectionTestUtils.setField(keyGenerator, "model", "mixtral-8x7b-32768");
+        ReflectionTestUtils.setField(keyGenerator, "temperature", 0.7);
+        ReflectionTestUtils.setField(keyGenerator, "defaultMode", "llm");
+
+        ReflectionTestUtils.setField(batchService, "cacheManager", cacheManager);
+        ReflectionTestUtils.setField(batchService, "cacheKeyGenerator", keyGenerator);
+        ReflectionTestUtils.setField(batchService, "tokenEstimator", new TokenEstimator());
+        ReflectionTestUtils.setField(batchService, "maxOutputTokens", 1000);
+        ReflectionTestUtils.setField(batchService, "outputTokensPerItem", 200);
+        ReflectionTestUtils.setField(batchService, "maxPromptTokens", 3000);
+        ReflectionTestUtils.setField(batchService, "maxConcurrency", 2);
+
+        lenient().when(jobDescriptionCompressor.compress(any())).thenAnswer(invocation -> invocation.getArgument(0));
+    }
+
+    @Test
+    void batchResultsAreCachedUnderTheSingleItemKeyWithTheirModel() {
+        answerBatch("0", "1");
+        AIRequest request = request(2);
+
+        WorkExperienceBatchResponse response = batchService.enhance(request).join();
+
+        assertEquals(1, response.getUpstreamCalls());
+        assertEquals("[\"Bullet for 0\"]", response.getWorkExperience().get(0).getBullets());
+        AIResponse cached = cache().get(keyFor(request, 1), AIResponse.class);
+        assertEquals("[\"Bullet for 1\"]", cached.getContent());
+        assertEquals("groq-large", cached.getModel());
+    }
+
+    @Test
+    void cachedItemsAreNotSentUpstream() {
+        answerBatch("1");
+        AIRequest request = request(2);
+        cache().put(keyFor(request, 0), AIResponse.builder().content("[\"cached\"]").build());
+
+        WorkExperienceBatchResponse response = batchService.enhance(request).join();
+
+        assertEquals(1, response.getCacheHits());
+        assertEquals(1, response.getUpstreamCalls());
+        assertEquals("[\"cached\"]", response.getWorkExperience().get(0).getBullets());
+        assertEquals("[\"Bullet for 1\"]", response.getWorkExperience().get(1).getBullets());
+    }
+
+    @Test
+    void itemsLeftOutOfTheBatchAreRetriedOneByOne() {
+        answerBatch("0");
+        when(aiService.enhanceWorkExperience(any())).thenAnswer(invocation -> {
+            lanes.add(AIPriority.current());
+            return CompletableFuture.completedFuture(AIResponse.builder().content("[\"single\"]").build());
+        });
+
+        WorkExperienceBatchResponse response = batchService.enhance(request(2)).join();
+
+        assertEquals(2, response.getUpstreamCalls());
+        assertEquals("[\"single\"]", response.getWorkExperience().get(1).getBullets());
+        assertEquals(List.of(AIPriority.INTERACTIVE, AIPriority.INTERACTIVE), lanes);
+    }
+
+    @Test
+    void upstreamCallsRunInTheCallersLane() {
+        answerBatch("0", "1");
+
+        batchService.enhance(request(2)).join();
+        AIPriority.background(() -> batchService.enhance(request(3))).join();
+
+        assertEquals(List.of(AIPriority.INTERACTIVE, AIPriority.BACKGROUND), lanes);
+    }
+
+    @Test
+    void aFailedBatchIsReportedPerItem() {
+        when(aiService.enhanceWorkExperienceBatch(any(), anyList(), anyInt()))
+                .thenReturn(CompletableFuture.failedFuture(new IllegalStateException("Groq is down")));
+
+        WorkExperienceBatchResponse response = batchService.enhance(request(2)).join();
+
+        assertEquals("Groq is down", response.getWorkExperience().get(0).getError());
+        assertNull(response.getWorkExperience().get(1).getBullets());
+        assertEquals(List.of("2 work experience(s) failed: Groq is down"), response.getErrors());
+        verify(aiService, never()).enhanceWorkExperience(any());
+    }
+
+    /**
+     * The batch call answers the given item ids with one bullet each
+     */
+    private void answerBatch(String... ids) {
+        when(aiService.enhanceWorkExperienceBatch(any(), anyList(), anyInt())).thenAnswer(invocation -> {
+            lanes.add(AIPriority.current());
+            Map<String, List<String>> bullets = new LinkedHashMap<>();
+            for (String id : ids) {
+                bullets.put(id, List.of("Bullet for " + id));
+            }
+            return CompletableFuture.completedFuture(new AIService.BatchBullets("groq-large", bullets));
+        });
+    }
+
+    private static AIRequest request(int experiences) {
+        List<AIRequest.WorkExperienceItem> items = new ArrayList<>();
+        for (int i = 0; i < experiences; i++) {
+            items.add(AIRequest.WorkExperienceItem.builder()
+                    .experienceId("exp-" + i)
+                    .jobTitle("Engineer " + i)
+                    .company("Acme")
+                    .description("Built services")
+                    .achievements("Cut latency by " + (10 + i) + "%")
+                    .build());
+        }
+        return AIRequest.builder()
+                .jobDescription("Backend engineer")
+                .workExperiences(items)
+                .build();
+    }
+
+    private String keyFor(AIRequest request, int index) {
+        return keyGenerator.keyFor(OPERATION,
+                ResumeGenerationService.experienceRequest(request, request.getWorkExperiences().get(index)));
+    }
+
+    private Cache cache() {
+        return cacheManager.getCache("ai-bullets");
+    }
+}